@@ -0,0 +1,60 @@
+package com.project.payment.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.payment.model.Bill;
+import com.project.payment.model.BillStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BillPageSerializationBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<Bill> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        var bills = new ArrayList<Bill>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            bills.add(Bill.builder()
+                    .id(UUID.randomUUID())
+                    .dueDate(LocalDate.of(2025, 7, 1).plusDays(i % 28))
+                    .paymentDate(LocalDate.of(2025, 8, 1))
+                    .amount(BigDecimal.valueOf(10_000 + i, 2))
+                    .description("Conta de energia " + i)
+                    .status(BillStatus.PENDENTE)
+                    .createdAt(LocalDateTime.of(2025, 7, 1, 10, 0))
+                    .updatedAt(LocalDateTime.of(2025, 7, 1, 10, 0))
+                    .build());
+        }
+        page = new PageImpl<>(bills, PageRequest.of(0, pageSize), 1_000_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
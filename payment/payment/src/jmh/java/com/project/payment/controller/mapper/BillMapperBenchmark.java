@@ -0,0 +1,53 @@
+package com.project.payment.controller.mapper;
+
+import com.project.payment.controller.dto.SaveBillDTO;
+import com.project.payment.controller.dto.UpdateBillDTO;
+import com.project.payment.model.Bill;
+import com.project.payment.model.BillStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BillMapperBenchmark {
+
+    private final BillMapper mapper = new BillMapperImpl();
+
+    private SaveBillDTO saveBillDTO;
+    private UpdateBillDTO updateBillDTO;
+    private Bill bill;
+
+    @Setup
+    public void setUp() {
+        saveBillDTO = SaveBillDTO.builder()
+                .dueDate(LocalDate.of(2025, 7, 1))
+                .paymentDate(LocalDate.of(2025, 7, 2))
+                .amount(new BigDecimal("150.00"))
+                .description("Conta de energia")
+                .status(BillStatus.PENDENTE)
+                .build();
+        updateBillDTO = UpdateBillDTO.builder()
+                .amount(new BigDecimal("175.50"))
+                .description("Conta de energia revisada")
+                .build();
+        bill = mapper.toBillEntity(saveBillDTO);
+    }
+
+    @Benchmark
+    public Bill toBillEntity() {
+        return mapper.toBillEntity(saveBillDTO);
+    }
+
+    @Benchmark
+    public Bill updateBillFromDTO() {
+        mapper.updateBillFromDTO(updateBillDTO, bill);
+        return bill;
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.payment.repository;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+
+public final class EmptyBillRepository {
+
+    private EmptyBillRepository() {
+    }
+
+    public static BillRepository create() {
+        return (BillRepository) Proxy.newProxyInstance(
+                BillRepository.class.getClassLoader(),
+                new Class<?>[]{BillRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "EmptyBillRepository";
+                    default -> {
+                        if (method.getReturnType() == Optional.class) yield Optional.empty();
+                        if (method.getReturnType() == List.class) yield List.of();
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
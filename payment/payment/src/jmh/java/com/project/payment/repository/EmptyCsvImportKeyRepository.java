@@ -0,0 +1,23 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public final class EmptyCsvImportKeyRepository extends CsvImportKeyRepository {
+
+    public EmptyCsvImportKeyRepository() {
+        super(null);
+    }
+
+    @Override
+    public Optional<RepeatedLine> registerKeys(UUID importId, Map<Integer, Bill> billsByLine) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void deleteKeys(UUID importId) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.payment.validator;
+
+import com.project.payment.metrics.PaymentMetrics;
+import com.project.payment.model.Bill;
+import com.project.payment.repository.EmptyBillRepository;
+import com.project.payment.repository.EmptyCsvImportKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvFileValidatorBenchmark {
+
+    private static final String[] STATUS = {"PAGO", "PENDENTE", "ATRASADO"};
+
+    @Param({"100", "10000", "100000"})
+    private int rows;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    private CsvFileValidator validator;
+    private String csvBase64;
+
+    @Setup
+    public void setUp() {
+        var metrics = new PaymentMetrics(new SimpleMeterRegistry());
+        validator = new CsvFileValidator(new BillValidator(EmptyBillRepository.create(), metrics), new EmptyCsvImportKeyRepository(), metrics, 1000, parallelism);
+
+        var csv = new StringBuilder(rows * 64);
+        for (int i = 0; i < rows; i++) {
+            var day = 1 + i % 28;
+            csv.append("2025-07-").append(day < 10 ? "0" : "").append(day)
+                    .append(",2025-08-01,")
+                    .append(100 + i / 100).append('.').append(i % 100 < 10 ? "0" : "").append(i % 100)
+                    .append(",Conta de energia ").append(i)
+                    .append(',').append(STATUS[i % STATUS.length])
+                    .append('\n');
+        }
+        csvBase64 = Base64.getEncoder().encodeToString(csv.toString().getBytes());
+    }
+
+    @TearDown
+    public void tearDown() {
+        validator.shutdown();
+    }
+
+    @Benchmark
+    public List<Bill> processCsvBase64() {
+        return validator.processCsvBase64(csvBase64);
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.payment.validator;
+
+import com.project.payment.model.Bill;
+import com.project.payment.model.BillStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compara o caminho anterior ao {@link CsvRecordParser} (readLine + split + trim, e status validado com
+ * {@code toUpperCase} contra um {@code List.of} criado a cada linha) com o caminho atual ({@link CsvChunkReader} +
+ * {@link CsvRecordParser}), ambos lendo os mesmos bytes UTF-8. O caminho anterior guardava o status como texto; aqui
+ * ele é convertido com {@code BillStatus.valueOf}, que não aloca. Rode com {@code -prof gc} para ver a alocação por
+ * linha ({@code gc.alloc.rate.norm} dividido por {@code rows}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvRecordParserBenchmark {
+
+    private static final String[] STATUS = {"PAGO", "PENDENTE", "ATRASADO"};
+    private static final int CHUNK_SIZE = 1000;
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private byte[] csv;
+
+    @Setup
+    public void setUp() {
+        var builder = new StringBuilder(rows * 64);
+        for (int i = 0; i < rows; i++) {
+            var day = 1 + i % 28;
+            builder.append("2025-07-").append(day < 10 ? "0" : "").append(day)
+                    .append(",2025-08-01,")
+                    .append(100 + i / 100).append('.').append(i % 100 < 10 ? "0" : "").append(i % 100)
+                    .append(",Conta de energia ").append(i)
+                    .append(',').append(STATUS[i % STATUS.length])
+                    .append('\n');
+        }
+        csv = builder.toString().getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public void splitLines(Blackhole blackhole) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(csv), UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            var column = line.split(",");
+            if (column.length < 5) continue;
+
+            blackhole.consume(Bill.builder()
+                    .dueDate(LocalDate.parse(column[0].trim()))
+                    .paymentDate(LocalDate.parse(column[1].trim()))
+                    .amount(new BigDecimal(column[2].trim()))
+                    .description(column[3].trim())
+                    .status(BillStatus.valueOf(legacyStatus(column[4])))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void recordParser(Blackhole blackhole) throws IOException {
+        var chunkReader = new CsvChunkReader(new InputStreamReader(new ByteArrayInputStream(csv), UTF_8), CHUNK_SIZE);
+        CsvChunkReader.CsvChunk chunk;
+        while ((chunk = chunkReader.next()) != null) {
+            var parser = new CsvRecordParser(chunk.data(), chunk.firstLineNumber());
+            while (parser.nextRecord()) {
+                if (parser.fieldCount() < 5) continue;
+
+                var bill = new Bill();
+                bill.setDueDate(parser.date(0));
+                bill.setPaymentDate(parser.date(1));
+                bill.setAmount(parser.decimal(2));
+                bill.setDescription(parser.text(3));
+                bill.setStatus(parser.status(4));
+                blackhole.consume(bill);
+            }
+        }
+    }
+
+    private static String legacyStatus(String value) {
+        var status = value.trim().toUpperCase();
+        var allowedStatus = List.of("PAGO", "PENDENTE", "ATRASADO");
+
+        if (!allowedStatus.contains(status)) {
+            throw new IllegalArgumentException("Status inválido: " + value);
+        }
+        return status;
+    }
+}
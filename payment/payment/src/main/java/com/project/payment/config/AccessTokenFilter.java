@@ -0,0 +1,84 @@
+package com.project.payment.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.payment.controller.dto.ErrorResponseDTO;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Autentica requisições com {@code Authorization: Bearer <token>} emitido por {@code POST /auth/token}. Requisições
+ * sem token seguem para a autenticação HTTP Basic.
+ */
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenService tokenService;
+    private final ObjectMapper objectMapper;
+
+    public AccessTokenFilter(AccessTokenService tokenService, ObjectMapper objectMapper) {
+        this.tokenService = tokenService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var username = tokenService.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+        if (username.isEmpty()) {
+            rejectRequest(response);
+            return;
+        }
+
+        var authentication = new PreAuthenticatedAuthenticationToken(username.get(), null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+        var context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * O token é validado de novo nos despachos assíncronos (exportação) e de erro, em vez de guardar o contexto
+     * de segurança entre eles.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+
+    private void rejectRequest(HttpServletResponse response) throws IOException {
+        var body = ErrorResponseDTO.unauthorized("Token de acesso inválido ou expirado.");
+
+        response.setStatus(body.status());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
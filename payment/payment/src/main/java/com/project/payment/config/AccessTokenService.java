@@ -0,0 +1,80 @@
+package com.project.payment.config;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Emite e valida tokens de acesso curtos no formato {@code base64url(usuário \n expiração).base64url(HMAC-SHA256)}.
+ * A validação custa um HMAC, sem consultar usuários nem calcular o hash lento da senha.
+ */
+public class AccessTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    public AccessTokenService(byte[] secret, Duration timeToLive) {
+        this(secret, timeToLive, Clock.systemUTC());
+    }
+
+    AccessTokenService(byte[] secret, Duration timeToLive, Clock clock) {
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public String issue(String username) {
+        var expiresAt = clock.instant().plus(timeToLive).getEpochSecond();
+        var payload = (username + "\n" + expiresAt).getBytes(UTF_8);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * Retorna o usuário do token, ou vazio se a assinatura não confere, o token expirou ou está mal formado.
+     */
+    public Optional<String> verify(String token) {
+        var separator = token.indexOf('.');
+        if (separator <= 0) return Optional.empty();
+
+        try {
+            var payload = DECODER.decode(token.substring(0, separator));
+            var signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) return Optional.empty();
+
+            var claims = new String(payload, UTF_8);
+            var lineBreak = claims.lastIndexOf('\n');
+            var expiresAt = Long.parseLong(claims.substring(lineBreak + 1));
+            if (lineBreak <= 0 || clock.instant().getEpochSecond() >= expiresAt) return Optional.empty();
+
+            return Optional.of(claims.substring(0, lineBreak));
+        } catch (IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            var mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
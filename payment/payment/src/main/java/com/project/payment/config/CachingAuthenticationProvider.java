@@ -0,0 +1,77 @@
+package com.project.payment.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Guarda por pouco tempo as credenciais HTTP Basic já verificadas, para que clientes que enviam usuário e senha
+ * em toda requisição não paguem o hash lento (BCrypt) a cada chamada. A chave do cache é um HMAC de usuário e senha
+ * com uma chave aleatória do processo, e a senha não fica em memória. Credenciais inválidas não são guardadas.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final AuthenticationProvider delegate;
+    private final Cache<String, Authentication> verifiedCredentials;
+    private final SecretKeySpec key;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, long maximumSize, Duration timeToLive) {
+        this.delegate = delegate;
+        this.verifiedCredentials = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+
+        var secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        if (authentication.getCredentials() == null) {
+            return delegate.authenticate(authentication);
+        }
+
+        var cacheKey = cacheKey(authentication.getName(), authentication.getCredentials().toString());
+        var cached = verifiedCredentials.getIfPresent(cacheKey);
+        if (cached != null) return cached;
+
+        var result = delegate.authenticate(authentication);
+        if (result == null || !result.isAuthenticated()) return result;
+
+        var verified = UsernamePasswordAuthenticationToken.authenticated(result.getName(), null, result.getAuthorities());
+        verifiedCredentials.put(cacheKey, verified);
+        return verified;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    private String cacheKey(String username, String password) {
+        try {
+            var mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(username.getBytes(UTF_8));
+            mac.update((byte) 0);
+            return HexFormat.of().formatHex(mac.doFinal(password.getBytes(UTF_8)));
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 
 @Slf4j
 @Configuration
@@ -22,6 +23,28 @@ public class DataBaseConfiguration {
     String password;
     @Value("${spring.datasource.driver-class-name}")
     String driver;
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    int maximumPoolSize;
+    @Value("${spring.datasource.hikari.minimum-idle:1}")
+    int minimumIdle;
+    @Value("${spring.datasource.hikari.max-lifetime:600000}")
+    long maxLifetime;
+    @Value("${spring.datasource.hikari.connection-timeout:10000}")
+    long connectionTimeout;
+    @Value("${payment.datasource.replica.url:}")
+    String replicaUrl;
+    @Value("${payment.datasource.replica.username:${spring.datasource.username}}")
+    String replicaUsername;
+    @Value("${payment.datasource.replica.password:${spring.datasource.password}}")
+    String replicaPassword;
+    @Value("${payment.datasource.replica.maximum-pool-size:${spring.datasource.hikari.maximum-pool-size:10}}")
+    int replicaMaximumPoolSize;
+    @Value("${payment.datasource.replica.max-lag:PT10S}")
+    Duration replicaMaxLag;
+    @Value("${payment.datasource.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}")
+    int maxConcurrency;
+    @Value("${payment.datasource.acquire-timeout:PT2S}")
+    Duration acquireTimeout;
 
     public DataSource dataSource() {
         DriverManagerDataSource ds = new DriverManagerDataSource();
@@ -32,24 +55,44 @@ public class DataBaseConfiguration {
         return ds;
     }
 
+    /**
+     * Sem {@code payment.datasource.replica.url} todas as conexões vêm do primário. Com a réplica configurada, as
+     * transações somente leitura passam a usá-la ({@link ReadReplicaDataSource}). Cada pool fica atrás de um
+     * {@link ConcurrencyLimitedDataSource}.
+     */
     @Bean
     public DataSource hikariDataSource() {
 
         log.info("Iniciando conexão com o banco na URL: {}", url);
+        var primary = new ConcurrencyLimitedDataSource(
+                createPool("payment-db-pool", url, username, password, maximumPoolSize), maxConcurrency, acquireTimeout);
 
+        if (replicaUrl.isBlank()) {
+            return primary;
+        }
+
+        log.info("Iniciando conexão com a réplica de leitura na URL: {}", replicaUrl);
+        var replica = new ConcurrencyLimitedDataSource(
+                createPool("payment-db-replica-pool", replicaUrl, replicaUsername, replicaPassword, replicaMaximumPoolSize),
+                replicaMaximumPoolSize, acquireTimeout);
+        return new ReadReplicaDataSource(primary, replica, replicaMaxLag);
+    }
+
+    private HikariDataSource createPool(String poolName, String jdbcUrl, String poolUsername, String poolPassword, int poolSize) {
         HikariConfig config = new HikariConfig();
-        config.setUsername(username);
-        config.setPassword(password);
+        config.setUsername(poolUsername);
+        config.setPassword(poolPassword);
         config.setDriverClassName(driver);
-        config.setJdbcUrl(url);
+        config.setJdbcUrl(jdbcUrl);
 
-        config.setMaximumPoolSize(10);
-        config.setMinimumIdle(1);
-        config.setPoolName("payment-db-pool");
-        config.setMaxLifetime(600000);
-        config.setConnectionTimeout(100000);
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(minimumIdle);
+        config.setPoolName(poolName);
+        config.setMaxLifetime(maxLifetime);
+        config.setConnectionTimeout(connectionTimeout);
         config.setConnectionTestQuery("select 1");
+        config.addDataSourceProperty("reWriteBatchedInserts", true);
 
         return new HikariDataSource(config);
     }
-}
\ No newline at end of file
+}
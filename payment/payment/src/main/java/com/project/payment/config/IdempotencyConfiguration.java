@@ -0,0 +1,35 @@
+package com.project.payment.config;
+
+import com.project.payment.repository.IdempotencyStore;
+import com.project.payment.repository.InMemoryIdempotencyStore;
+import com.project.payment.repository.JdbcIdempotencyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyConfiguration {
+
+    @Value("${payment.idempotency.maximum-size:100000}")
+    long maximumSize;
+    @Value("${payment.idempotency.time-to-live:PT24H}")
+    Duration timeToLive;
+    @Value("${payment.idempotency.lease-time:PT30M}")
+    Duration leaseTime;
+
+    @Bean
+    @ConditionalOnProperty(name = "payment.idempotency.store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore() {
+        return new InMemoryIdempotencyStore(maximumSize, timeToLive);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "payment.idempotency.store", havingValue = "jdbc")
+    public IdempotencyStore jdbcIdempotencyStore(JdbcTemplate jdbcTemplate) {
+        return new JdbcIdempotencyStore(jdbcTemplate, timeToLive, leaseTime);
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.payment.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Consistência exigida pelas leituras da requisição atual. Com {@link #STRONG} as transações somente leitura usam
+ * o primário, e a requisição enxerga as próprias escritas mesmo com a réplica atrasada.
+ */
+public enum ReadConsistency {
+
+    EVENTUAL, STRONG;
+
+    public static final String HEADER = "Read-Consistency";
+
+    private static final ThreadLocal<ReadConsistency> CURRENT = new ThreadLocal<>();
+
+    public static ReadConsistency of(String value) {
+        return value != null && STRONG.name().equalsIgnoreCase(value.trim()) ? STRONG : EVENTUAL;
+    }
+
+    public static boolean isPrimaryRequired() {
+        return CURRENT.get() == STRONG;
+    }
+
+    /**
+     * Executa {@code action} com as leituras no primário, restaurando depois a consistência da requisição.
+     */
+    public static <T> T withPrimary(Supplier<T> action) {
+        var previous = CURRENT.get();
+        CURRENT.set(STRONG);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void set(ReadConsistency consistency) {
+        CURRENT.set(consistency);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.payment.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Envia as transações somente leitura para a réplica e as demais para o primário. A conexão só é obtida no
+ * primeiro comando da transação, depois de o JPA marcá-la como somente leitura, por isso o proxy lazy.
+ * <p>
+ * Leituras voltam ao primário quando a requisição exige consistência forte ({@link ReadConsistency}) ou quando o
+ * atraso de replicação passa de {@code maxLag} ou não pode ser medido.
+ */
+@Slf4j
+public class ReadReplicaDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final String REPLICATION_LAG_SQL = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ConcurrencyLimitedDataSource primary;
+    private final ConcurrencyLimitedDataSource replica;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private volatile boolean replicaAvailable = true;
+
+    public ReadReplicaDataSource(ConcurrencyLimitedDataSource primary, ConcurrencyLimitedDataSource replica, Duration maxLag) {
+        super(primary);
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+
+        var readOnlyDataSource = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return replicaAvailable && !ReadConsistency.isPrimaryRequired() ? Target.REPLICA : Target.PRIMARY;
+            }
+        };
+        readOnlyDataSource.setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        readOnlyDataSource.afterPropertiesSet();
+        setReadOnlyDataSource(readOnlyDataSource);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.datasource.replica.lag-check-interval:5s}")
+    public void checkReplicationLag() {
+        boolean available;
+        try {
+            var lagMillis = replicaJdbcTemplate.queryForObject(REPLICATION_LAG_SQL, Double.class);
+            available = lagMillis != null && lagMillis <= maxLag.toMillis();
+        } catch (RuntimeException exception) {
+            log.debug("Não foi possível medir o atraso da réplica", exception);
+            available = false;
+        }
+
+        if (available != replicaAvailable) {
+            log.warn(available ? "Leituras voltaram para a réplica" : "Réplica atrasada ou indisponível, leituras direcionadas ao primário");
+        }
+        replicaAvailable = available;
+    }
+
+    @Override
+    public void close() throws IOException {
+        replica.close();
+        primary.close();
+    }
+}
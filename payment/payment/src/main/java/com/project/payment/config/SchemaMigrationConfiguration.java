@@ -0,0 +1,40 @@
+package com.project.payment.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "payment.migrations.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaMigrationConfiguration {
+
+    public static final String SCHEMA_MIGRATOR = "schemaMigrator";
+
+    /**
+     * Usa um gerenciador de transações JDBC próprio: o do JPA depende do EntityManagerFactory, que por sua vez
+     * depende deste bean.
+     */
+    @Bean(SCHEMA_MIGRATOR)
+    public SchemaMigrator schemaMigrator(
+            DataSource dataSource,
+            @Value("${payment.migrations.baseline-version:1}") int baselineVersion
+    ) {
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        return new SchemaMigrator(new JdbcTemplate(dataSource), transactionTemplate, baselineVersion);
+    }
+
+    /**
+     * Garante que o esquema esteja migrado antes de o JPA e os repositórios serem inicializados.
+     */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor entityManagerFactoryDependsOnSchemaMigrator() {
+        return new EntityManagerFactoryDependsOnPostProcessor(SCHEMA_MIGRATOR);
+    }
+}
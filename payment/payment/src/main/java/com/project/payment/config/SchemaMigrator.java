@@ -0,0 +1,129 @@
+package com.project.payment.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Aplica na inicialização os scripts {@code db/migration/V<versão>__<descrição>.sql} ainda não registrados em
+ * {@code schema_migration}, em ordem de versão e cada um em sua própria transação. Um advisory lock impede que
+ * duas instâncias apliquem a mesma versão, e um script já aplicado que tenha sido alterado interrompe a
+ * inicialização.
+ * <p>
+ * Bancos criados pelo antigo {@code sql-script.txt} já têm a tabela {@code bill} e nenhum histórico: nesse caso a
+ * versão de baseline é registrada sem executar os scripts até ela.
+ */
+@Slf4j
+public class SchemaMigrator implements InitializingBean {
+
+    static final String LOCATION = "classpath:db/migration/V*__*.sql";
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+    private static final long LOCK_KEY = 0x6269_6c6c_6d69_67L;
+
+    private static final String CREATE_HISTORY_SQL = "CREATE TABLE IF NOT EXISTS schema_migration (" +
+            "version INTEGER PRIMARY KEY, " +
+            "description VARCHAR(200) NOT NULL, " +
+            "checksum VARCHAR(64) NOT NULL, " +
+            "installed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)";
+
+    private static final String INSERT_HISTORY_SQL = "INSERT INTO schema_migration (version, description, checksum) VALUES (?, ?, ?)";
+
+    record Migration(int version, String description, String script, String checksum) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int baselineVersion;
+
+    public SchemaMigrator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int baselineVersion) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.baselineVersion = baselineVersion;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        jdbcTemplate.execute(CREATE_HISTORY_SQL);
+
+        for (var migration : resolveMigrations()) {
+            transactionTemplate.executeWithoutResult(status -> apply(migration));
+        }
+    }
+
+    private void apply(Migration migration) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", resultSet -> {
+        }, LOCK_KEY);
+
+        var checksums = jdbcTemplate.queryForList("SELECT checksum FROM schema_migration WHERE version = ?", String.class, migration.version());
+        if (!checksums.isEmpty()) {
+            if (!checksums.getFirst().equals(migration.checksum())) {
+                throw new IllegalStateException("A migração V" + migration.version() + " foi alterada depois de aplicada.");
+            }
+            return;
+        }
+
+        if (migration.version() <= baselineVersion && isLegacySchema()) {
+            log.info("Registrando baseline da migração V{} ({}) em um banco já existente", migration.version(), migration.description());
+        } else {
+            log.info("Aplicando migração V{} ({})", migration.version(), migration.description());
+            jdbcTemplate.execute(migration.script());
+        }
+        jdbcTemplate.update(INSERT_HISTORY_SQL, migration.version(), migration.description(), migration.checksum());
+    }
+
+    private boolean isLegacySchema() {
+        var historySize = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schema_migration", Long.class);
+        var billTable = jdbcTemplate.queryForObject("SELECT to_regclass('bill') IS NOT NULL", Boolean.class);
+        return historySize != null && historySize == 0 && Boolean.TRUE.equals(billTable);
+    }
+
+    static List<Migration> resolveMigrations() {
+        try {
+            var resources = new PathMatchingResourcePatternResolver().getResources(LOCATION);
+            return Arrays.stream(resources)
+                    .map(SchemaMigrator::toMigration)
+                    .sorted(Comparator.comparingInt(Migration::version))
+                    .toList();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static Migration toMigration(Resource resource) {
+        var matcher = FILE_NAME.matcher(resource.getFilename() == null ? "" : resource.getFilename());
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Nome de migração inválido: " + resource.getFilename());
+        }
+
+        try {
+            var script = resource.getContentAsString(UTF_8);
+            return new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '), script, checksum(script));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static String checksum(String script) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(script.getBytes(UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.payment.config;
+
+import com.project.payment.repository.BillRepository;
+import com.project.payment.repository.BillSearchIndex;
+import com.project.payment.repository.InMemoryBillSearchIndex;
+import com.project.payment.repository.PostgresBillSearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SearchConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "payment.search.mode", havingValue = "postgres", matchIfMissing = true)
+    public BillSearchIndex postgresBillSearchIndex(BillRepository repository) {
+        return new PostgresBillSearchIndex(repository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "payment.search.mode", havingValue = "memory")
+    public BillSearchIndex inMemoryBillSearchIndex(BillRepository repository) {
+        var searchIndex = new InMemoryBillSearchIndex(repository);
+        searchIndex.load(repository.findAllDescriptions());
+        return searchIndex;
+    }
+}
@@ -1,31 +1,65 @@
 package com.project.payment.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+@Slf4j
 @Configuration
 public class SecurityConfig {
 
     @Value("${spring.security.username}")
     private String username;
 
+    /**
+     * Senha já codificada com o prefixo do algoritmo (ex.: {@code {bcrypt}$2a$10$...}). Sem prefixo, é tratada como
+     * texto puro e codificada com BCrypt na inicialização.
+     */
     @Value("${spring.security.password}")
     private String password;
 
+    @Value("${payment.security.token.secret:}")
+    private String tokenSecret;
+
+    @Value("${payment.security.token.time-to-live:PT15M}")
+    private Duration tokenTimeToLive;
+
+    @Value("${payment.security.credential-cache.maximum-size:1000}")
+    private long credentialCacheMaximumSize;
+
+    @Value("${payment.security.credential-cache.time-to-live:PT5M}")
+    private Duration credentialCacheTimeToLive;
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    }
+
     @Bean
-    public UserDetailsService userDetailsService() {
+    public UserDetailsService userDetailsService(PasswordEncoder passwordEncoder) {
         UserDetails user = User
                 .withUsername(username)
-                .password("{noop}" + password)
+                .password(password.startsWith("{") ? password : passwordEncoder.encode(password))
                 .roles("USER")
                 .build();
 
@@ -33,10 +67,31 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+        var daoAuthenticationProvider = new DaoAuthenticationProvider(userDetailsService);
+        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder);
+
+        return new CachingAuthenticationProvider(daoAuthenticationProvider, credentialCacheMaximumSize, credentialCacheTimeToLive);
+    }
+
+    @Bean
+    public AccessTokenService accessTokenService() {
+        if (tokenSecret.isBlank()) {
+            log.warn("payment.security.token.secret não configurado: usando chave aleatória; tokens emitidos deixam de valer ao reiniciar");
+            var secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            return new AccessTokenService(secret, tokenTimeToLive);
+        }
+        return new AccessTokenService(Base64.getDecoder().decode(tokenSecret), tokenTimeToLive);
+    }
+
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http, AccessTokenService accessTokenService, ObjectMapper objectMapper) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+                .addFilterBefore(new AccessTokenFilter(accessTokenService, objectMapper), BasicAuthenticationFilter.class)
                 .httpBasic(Customizer.withDefaults());
         return http.build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.project.payment.config;
+
+import com.project.payment.model.BillStatus;
+import com.project.payment.model.ExportFormat;
+import com.project.payment.model.ReportDateField;
+import com.project.payment.model.ReportPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final ReadConsistencyInterceptor readConsistencyInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readConsistencyInterceptor)
+                .addPathPatterns("/payments", "/payments/**");
+    }
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, BillStatus.class, BillStatus::of);
+        registry.addConverter(String.class, ExportFormat.class, ExportFormat::of);
+        registry.addConverter(String.class, ReportPeriod.class, ReportPeriod::of);
+        registry.addConverter(String.class, ReportDateField.class, ReportDateField::of);
+    }
+
+    /**
+     * ETag calculada sobre o corpo das listagens, que não têm uma versão própria: a consulta e a serialização
+     * continuam acontecendo, mas clientes com a mesma ETag recebem 304 sem o corpo. A exportação fica de fora
+     * porque seria acumulada inteira em memória.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "payment.http.list-etag.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> listEtagFilter() {
+        var registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/payments", "/payments/cursor", "/payments/search", "/payments/total", "/payments/reports");
+        return registration;
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.payment.controller;
+
+import com.project.payment.config.AccessTokenService;
+import com.project.payment.controller.dto.AccessTokenDTO;
+import com.project.payment.controller.dto.ErrorResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("auth")
+@RequiredArgsConstructor
+public class AuthController {
+
+    private final AccessTokenService tokenService;
+
+    @PostMapping("/token")
+    @Operation(summary = "Issue access token", description = "Emite um token de acesso curto para o usuário autenticado via HTTP Basic.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Token emitido com sucesso."),
+            @ApiResponse(responseCode = "401", description = "Usuário ou senha inválidos."),
+            @ApiResponse(responseCode = "403", description = "Tokens não podem ser renovados com outro token.")
+    })
+    public ResponseEntity<Object> issueToken(Authentication authentication) {
+        if (authentication instanceof PreAuthenticatedAuthenticationToken) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(ErrorResponseDTO.forbidden("Informe usuário e senha para obter um novo token."));
+        }
+
+        var token = tokenService.issue(authentication.getName());
+        return ResponseEntity.ok(AccessTokenDTO.bearer(token, tokenService.getTimeToLive()));
+    }
+}
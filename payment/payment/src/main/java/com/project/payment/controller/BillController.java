@@ -3,22 +3,50 @@ package com.project.payment.controller;
 import com.project.payment.controller.dto.*;
 import com.project.payment.exception.AlreadyRegisteredBillException;
 import com.project.payment.exception.BillNotFoundException;
+import com.project.payment.exception.BillVersionMismatchException;
+import com.project.payment.exception.CsvImportJobLimitException;
+import com.project.payment.exception.CsvImportJobNotFoundException;
+import com.project.payment.exception.IdempotencyKeyInProgressException;
+import com.project.payment.exception.InvalidCursorException;
+import com.project.payment.exception.InvalidIdempotencyKeyException;
 import com.project.payment.exception.InvalidPeriodException;
-import com.project.payment.model.Bill;
+import com.project.payment.exception.InvalidStatusUpdateException;
+import com.project.payment.model.BillStatus;
+import com.project.payment.model.BillSummary;
+import com.project.payment.model.BillVersion;
+import com.project.payment.model.CsvImportJob;
+import com.project.payment.model.ExportFormat;
+import com.project.payment.model.ReportDateField;
+import com.project.payment.model.ReportPeriod;
+import com.project.payment.repository.BillFilter;
+import com.project.payment.service.BillExportService;
+import com.project.payment.service.BillReportService;
 import com.project.payment.service.BillService;
+import com.project.payment.service.CsvImportJobService;
+import com.project.payment.service.IdempotencyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -27,26 +55,38 @@ import java.util.UUID;
 public class BillController {
 
     private final BillService service;
+    private final CsvImportJobService importJobService;
+    private final IdempotencyService idempotencyService;
+    private final BillExportService exportService;
+    private final BillReportService reportService;
 
     @PostMapping
     @Operation(summary = "Save Bill", description = "Cadastrar nova conta.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Conta registrada com sucesso."),
-            @ApiResponse(responseCode = "409", description = "Conta com estas informações já foi cadastrada!")
+            @ApiResponse(responseCode = "409", description = "Conta com estas informações já foi cadastrada!"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key já usada em uma requisição diferente.")
     })
-    public ResponseEntity<Object> saveBill(@RequestBody @Valid SaveBillDTO saveBillDTO) {
-        try {
-            var savedBill = service.saveBill(saveBillDTO);
-            var location = ServletUriComponentsBuilder
-                    .fromCurrentRequest()
-                    .buildAndExpand(savedBill.getId())
-                    .toUri();
+    public ResponseEntity<Object> saveBill(
+            @Parameter(description = "Chave para repetir a requisição com segurança; repetições recebem a resposta original")
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid SaveBillDTO saveBillDTO
+    ) throws IOException {
+        var fingerprint = IdempotencyService.fingerprint("POST /payments", saveBillDTO.toString());
+        return idempotent(idempotencyKey, fingerprint, () -> {
+            try {
+                var savedBill = service.saveBill(saveBillDTO);
+                var location = ServletUriComponentsBuilder
+                        .fromCurrentRequest()
+                        .buildAndExpand(savedBill.getId())
+                        .toUri();
 
-            return ResponseEntity.created(location).build();
-        } catch (AlreadyRegisteredBillException exception) {
-            var errorResponse = ErrorResponseDTO.conflit(exception.getMessage());
-            return ResponseEntity.status(errorResponse.status()).body(errorResponse);
-        }
+                return ResponseEntity.created(location).build();
+            } catch (AlreadyRegisteredBillException exception) {
+                var errorResponse = ErrorResponseDTO.conflit(exception.getMessage());
+                return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+            }
+        });
     }
 
     @PutMapping("/{id}")
@@ -54,14 +94,17 @@ public class BillController {
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "Conta atualizada com sucesso."),
             @ApiResponse(responseCode = "404", description = "Conta não encontrada."),
-            @ApiResponse(responseCode = "409", description = "Conta com estas informações já foi cadastrada!")
+            @ApiResponse(responseCode = "409", description = "Conta com estas informações já foi cadastrada!"),
+            @ApiResponse(responseCode = "412", description = "A conta foi alterada por outra requisição.")
     })
     public ResponseEntity<Object> updateBill(
             @PathVariable("id") UUID billId,
+            @Parameter(description = "Versão esperada da conta (ETag retornado na consulta)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid UpdateBillDTO updateBillDTO
     ) {
         try {
-            service.updateBill(billId, updateBillDTO);
+            service.updateBill(billId, updateBillDTO, parseVersion(ifMatch));
             return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
         } catch (BillNotFoundException exception) {
             var errorResponse = ErrorResponseDTO.notFound(exception.getMessage());
@@ -69,6 +112,9 @@ public class BillController {
         } catch (AlreadyRegisteredBillException exception) {
             var errorResponse = ErrorResponseDTO.conflit(exception.getMessage());
             return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+        } catch (BillVersionMismatchException exception) {
+            var errorResponse = ErrorResponseDTO.preconditionFailed(exception.getMessage());
+            return ResponseEntity.status(errorResponse.status()).body(errorResponse);
         }
     }
 
@@ -76,35 +122,69 @@ public class BillController {
     @Operation(summary = "Update Bill Status", description = "Atualizar apenas o status da conta.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "Status atualizado com sucesso."),
-            @ApiResponse(responseCode = "404", description = "Conta não encontrada.")
+            @ApiResponse(responseCode = "404", description = "Conta não encontrada."),
+            @ApiResponse(responseCode = "412", description = "A conta foi alterada por outra requisição.")
     })
     public ResponseEntity<Object> updateBillStatus(
             @PathVariable("id") UUID billId,
+            @Parameter(description = "Versão esperada da conta (ETag retornado na consulta)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid UpdateBillStatusDTO updateBillStatusDTO
     ) {
         try {
-            service.updateBillStatus(billId, updateBillStatusDTO.status());
+            service.updateBillStatus(billId, updateBillStatusDTO.status(), parseVersion(ifMatch));
             return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
         } catch (BillNotFoundException exception) {
             var errorResponse = ErrorResponseDTO.notFound(exception.getMessage());
             return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+        } catch (BillVersionMismatchException exception) {
+            var errorResponse = ErrorResponseDTO.preconditionFailed(exception.getMessage());
+            return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+        }
+    }
+
+    @PatchMapping("/status")
+    @Operation(summary = "Update Bills Status", description = "Atualiza o status de várias contas, informadas por id ou por filtro (intervalo de vencimento e status atual).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resultado da atualização de cada conta."),
+            @ApiResponse(responseCode = "400", description = "Requisição sem ids nem filtro, ou com ambos.")
+    })
+    public ResponseEntity<Object> updateBillsStatus(@RequestBody @Valid UpdateBillsStatusDTO updateBillsStatusDTO) {
+        try {
+            var result = service.updateBillsStatus(updateBillsStatusDTO);
+            return ResponseEntity.ok(result);
+        } catch (InvalidStatusUpdateException | InvalidPeriodException exception) {
+            var errorResponse = ErrorResponseDTO.invalidStatusUpdate(exception.getMessage());
+            return ResponseEntity.status(errorResponse.status()).body(errorResponse);
         }
     }
 
     @GetMapping
-    @Operation(summary = "List Bills", description = "Retorna uma lista de contas, com filtros opcionais por dueDate e description.")
+    @Operation(summary = "List Bills", description = "Retorna uma lista de contas, com filtros opcionais por dueDate, intervalo de vencimento, description e status.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Lista de contas retornada com sucesso.")
     })
-    public ResponseEntity<Page<Bill>> getBills(
+    public ResponseEntity<PageDTO<BillSummary>> getBills(
             @Parameter(description = "Filtra por data de vencimento (YYYY-MM-DD)")
             @RequestParam(value = "dueDate", required = false)
             LocalDate dueDate,
 
+            @Parameter(description = "Vencimento a partir de (YYYY-MM-DD)")
+            @RequestParam(value = "dueDateFrom", required = false)
+            LocalDate dueDateFrom,
+
+            @Parameter(description = "Vencimento até (YYYY-MM-DD)")
+            @RequestParam(value = "dueDateTo", required = false)
+            LocalDate dueDateTo,
+
             @Parameter(description = "Filtra por texto contido na descrição")
             @RequestParam(value = "description", required = false)
             String description,
 
+            @Parameter(description = "Filtra por status (PAGO, PENDENTE ou ATRASADO)")
+            @RequestParam(value = "status", required = false)
+            BillStatus status,
+
             @Parameter(description = "Número da página")
             @RequestParam(value = "pageNumber", defaultValue = "0")
             int pageNumber,
@@ -113,20 +193,133 @@ public class BillController {
             @RequestParam(value = "pageSize", defaultValue = "10")
             int pageSize
     ) {
-        var bills = service.findBills(dueDate, description, pageNumber, pageSize);
+        var filter = new BillFilter(dueDate, dueDateFrom, dueDateTo, description, status);
+        var bills = service.findBills(filter, pageNumber, pageSize);
         return ResponseEntity.ok(bills);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "List Bills by cursor", description = "Retorna contas ordenadas por dueDate e id usando paginação por cursor, sem contagem total, com os mesmos filtros da listagem paginada.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lista de contas retornada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Cursor de paginação inválido.")
+    })
+    public ResponseEntity<Object> getBillsByCursor(
+            @Parameter(description = "Filtra por data de vencimento (YYYY-MM-DD)")
+            @RequestParam(value = "dueDate", required = false)
+            LocalDate dueDate,
+
+            @Parameter(description = "Vencimento a partir de (YYYY-MM-DD)")
+            @RequestParam(value = "dueDateFrom", required = false)
+            LocalDate dueDateFrom,
+
+            @Parameter(description = "Vencimento até (YYYY-MM-DD)")
+            @RequestParam(value = "dueDateTo", required = false)
+            LocalDate dueDateTo,
+
+            @Parameter(description = "Filtra por texto contido na descrição")
+            @RequestParam(value = "description", required = false)
+            String description,
+
+            @Parameter(description = "Filtra por status (PAGO, PENDENTE ou ATRASADO)")
+            @RequestParam(value = "status", required = false)
+            BillStatus status,
+
+            @Parameter(description = "Cursor retornado em 'next' pela página anterior")
+            @RequestParam(value = "after", required = false)
+            String after,
+
+            @Parameter(description = "Tamanho da página")
+            @RequestParam(value = "pageSize", defaultValue = "10")
+            int pageSize
+    ) {
+        try {
+            var filter = new BillFilter(dueDate, dueDateFrom, dueDateTo, description, status);
+            var bills = service.findBillsAfter(filter, after, pageSize);
+            return ResponseEntity.ok(bills);
+        } catch (InvalidCursorException exception) {
+            var errorResponse = ErrorResponseDTO.invalidCursor(exception.getMessage());
+            return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+        }
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export Bills", description = "Exporta todas as contas do filtro em CSV (mesmo layout da importação) ou NDJSON, escrevendo a resposta conforme as linhas são lidas do banco.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Contas exportadas.")
+    })
+    public ResponseEntity<StreamingResponseBody> exportBills(
+            @Parameter(description = "Filtra por data de vencimento (YYYY-MM-DD)")
+            @RequestParam(value = "dueDate", required = false)
+            LocalDate dueDate,
+
+            @Parameter(description = "Vencimento a partir de (YYYY-MM-DD)")
+            @RequestParam(value = "dueDateFrom", required = false)
+            LocalDate dueDateFrom,
+
+            @Parameter(description = "Vencimento até (YYYY-MM-DD)")
+            @RequestParam(value = "dueDateTo", required = false)
+            LocalDate dueDateTo,
+
+            @Parameter(description = "Filtra por texto contido na descrição")
+            @RequestParam(value = "description", required = false)
+            String description,
+
+            @Parameter(description = "Filtra por status (PAGO, PENDENTE ou ATRASADO)")
+            @RequestParam(value = "status", required = false)
+            BillStatus status,
+
+            @Parameter(description = "Formato do arquivo (csv ou ndjson)")
+            @RequestParam(value = "format", defaultValue = "csv")
+            ExportFormat format
+    ) {
+        var filter = new BillFilter(dueDate, dueDateFrom, dueDateTo, description, status);
+        var contentDisposition = ContentDisposition.attachment()
+                .filename("bills." + format.getFileExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(outputStream -> exportService.exportBills(filter, format, outputStream));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search Bills by description", description = "Busca contas cuja descrição contém o texto informado, ordenadas por relevância.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Contas encontradas.")
+    })
+    public ResponseEntity<List<BillSummary>> searchBills(
+            @Parameter(description = "Texto contido na descrição", required = true)
+            @RequestParam(value = "description")
+            String description,
+
+            @Parameter(description = "Quantidade máxima de resultados (até 100)")
+            @RequestParam(value = "limit", defaultValue = "20")
+            int limit
+    ) {
+        return ResponseEntity.ok(service.searchBills(description, limit));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get Bill by ID", description = "Busca uma conta pelo ID.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Conta encontrada com sucesso."),
+            @ApiResponse(responseCode = "304", description = "A conta não mudou desde a ETag ou data informada."),
             @ApiResponse(responseCode = "404", description = "Conta não encontrada.")
     })
-    public ResponseEntity<Object> getBillById(@PathVariable UUID id) {
+    public ResponseEntity<Object> getBillById(@PathVariable UUID id, WebRequest request) {
         try {
             var bill = service.findBillById(id);
-            return ResponseEntity.ok(bill);
+            var version = BillVersion.of(bill);
+            if (request.checkNotModified(version.eTag(), version.lastModified().toEpochMilli())) {
+                return null;
+            }
+
+            return ResponseEntity.ok()
+                    .eTag(version.eTag())
+                    .lastModified(version.lastModified())
+                    .body(bill);
         } catch (BillNotFoundException exception) {
             var errorResponse = ErrorResponseDTO.notFound(exception.getMessage());
             return ResponseEntity.status(errorResponse.status()).body(errorResponse);
@@ -155,17 +348,206 @@ public class BillController {
         }
     }
 
-    @PostMapping("/uploads")
+    @GetMapping("/reports")
+    @Operation(
+            summary = "Grouped bill report",
+            description = "Retorna total, quantidade e média dos valores agrupados por dia, semana ou mês (e opcionalmente por status), filtrando pela data de pagamento ou de vencimento."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Relatório calculado com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Período inválido.")
+    })
+    public ResponseEntity<Object> getReport(
+            @RequestParam(value = "startDate") @Parameter(description = "Data inicial (YYYY-MM-DD)", required = true) LocalDate startDate,
+            @RequestParam(value = "endDate") @Parameter(description = "Data final (YYYY-MM-DD)", required = true) LocalDate endDate,
+
+            @Parameter(description = "Agrupamento: day, week ou month")
+            @RequestParam(value = "groupBy", defaultValue = "month")
+            ReportPeriod groupBy,
+
+            @Parameter(description = "Data usada no filtro e no agrupamento: payment_date ou due_date")
+            @RequestParam(value = "dateField", defaultValue = "payment_date")
+            ReportDateField dateField,
+
+            @Parameter(description = "Também agrupa por status")
+            @RequestParam(value = "byStatus", defaultValue = "false")
+            boolean byStatus
+    ) {
+        try {
+            var report = reportService.getReport(startDate, endDate, groupBy, dateField, byStatus);
+            return ResponseEntity.ok(report);
+        } catch (InvalidPeriodException exception) {
+            var errorResponse = ErrorResponseDTO.invalidPeriod(exception.getMessage());
+            return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+        }
+    }
+
+    @PostMapping(value = "/uploads", consumes = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Upload CSV file", description = "Recebe um arquivo CSV codificado em base64 e salva cada linha no banco de dados.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Dados salvos com sucesso."),
             @ApiResponse(responseCode = "409", description = "Arquivo com conta(s) já cadastrada(s)"),
             @ApiResponse(responseCode = "422", description = "Arquivo com dado(s) inválido(s)")
     })
-    public ResponseEntity<Object> uploadCsvBase64(@RequestBody @Valid UploadCsvDTO uploadCsvDTO) {
+    public ResponseEntity<Object> uploadCsvBase64(
+            @Parameter(description = "Chave para repetir a requisição com segurança; repetições recebem a resposta original")
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid UploadCsvDTO uploadCsvDTO
+    ) throws IOException {
+        var fingerprint = IdempotencyService.fingerprint("POST /payments/uploads", uploadCsvDTO.fileBase64());
+        return idempotent(idempotencyKey, fingerprint, () -> {
+            try {
+                var result = service.saveCsvBills(uploadCsvDTO.fileBase64());
+                return ResponseEntity.status(HttpStatus.CREATED).body(result);
+            } catch (AlreadyRegisteredBillException exception) {
+                var errorResponse = ErrorResponseDTO.conflit(exception.getMessage());
+                return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+            } catch (IllegalArgumentException exception) {
+                var errorResponse = ErrorResponseDTO.invalidCsvFile(exception.getMessage());
+                return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+            }
+        });
+    }
+
+    @PostMapping(value = "/uploads", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload CSV file (multipart)", description = "Recebe um arquivo CSV via multipart e salva cada linha no banco de dados, lendo o arquivo linha a linha. Com async=true a importação é executada em segundo plano.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Dados salvos com sucesso."),
+            @ApiResponse(responseCode = "202", description = "Importação agendada."),
+            @ApiResponse(responseCode = "409", description = "Arquivo com conta(s) já cadastrada(s)"),
+            @ApiResponse(responseCode = "422", description = "Arquivo com dado(s) inválido(s)"),
+            @ApiResponse(responseCode = "429", description = "Limite de importações em andamento atingido.")
+    })
+    public ResponseEntity<Object> uploadCsvMultipart(
+            @Parameter(description = "Chave para repetir a requisição com segurança; repetições recebem a resposta original")
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+
+            @RequestPart("file") MultipartFile file,
+
+            @Parameter(description = "Executa a importação em segundo plano")
+            @RequestParam(value = "async", defaultValue = "false")
+            boolean async
+    ) throws IOException {
+        String fingerprint = null;
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            try (var content = file.getInputStream()) {
+                fingerprint = IdempotencyService.fingerprint(content, "POST /payments/uploads", "multipart", String.valueOf(async));
+            }
+        }
+        return idempotent(idempotencyKey, fingerprint, () -> {
+            try (var csvFile = file.getInputStream()) {
+                return async ? submitCsvImportJob(csvFile) : saveCsvFile(csvFile);
+            }
+        });
+    }
+
+    @PostMapping(value = "/uploads", consumes = "text/csv")
+    @Operation(summary = "Upload CSV file (text/csv)", description = "Recebe o conteúdo CSV no corpo da requisição e salva cada linha no banco de dados, lendo o arquivo linha a linha. Com async=true a importação é executada em segundo plano.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Dados salvos com sucesso."),
+            @ApiResponse(responseCode = "202", description = "Importação agendada."),
+            @ApiResponse(responseCode = "409", description = "Arquivo com conta(s) já cadastrada(s)"),
+            @ApiResponse(responseCode = "422", description = "Arquivo com dado(s) inválido(s)"),
+            @ApiResponse(responseCode = "429", description = "Limite de importações em andamento atingido.")
+    })
+    public ResponseEntity<Object> uploadCsvStream(
+            @Parameter(description = "Chave para repetir a requisição com segurança; repetições recebem a resposta original")
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+
+            InputStream csvFile,
+
+            @Parameter(description = "Executa a importação em segundo plano")
+            @RequestParam(value = "async", defaultValue = "false")
+            boolean async
+    ) throws IOException {
+        var withoutKey = idempotencyKey == null || idempotencyKey.isBlank();
+        if (withoutKey && async) {
+            return submitCsvImportJob(csvFile);
+        }
+
+        // O corpo é recebido inteiro em um arquivo temporário antes de a importação abrir a transação e pegar uma
+        // conexão; com chave, a impressão digital é calculada na mesma leitura.
+        var file = Files.createTempFile("bill-upload-", ".csv");
+        try {
+            String fingerprint = null;
+            try (var target = Files.newOutputStream(file)) {
+                if (withoutKey) {
+                    csvFile.transferTo(target);
+                } else {
+                    fingerprint = IdempotencyService.copyAndFingerprint(csvFile, target, "POST /payments/uploads", "text/csv", String.valueOf(async));
+                }
+            }
+            return withoutKey ? importSpooledCsvFile(file, async) : idempotent(idempotencyKey, fingerprint, () -> importSpooledCsvFile(file, async));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @GetMapping("/uploads/{jobId}")
+    @Operation(summary = "Get CSV import job", description = "Retorna o andamento de uma importação executada em segundo plano.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importação encontrada."),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada.")
+    })
+    public ResponseEntity<Object> getCsvImportJob(@PathVariable UUID jobId) {
         try {
-            service.saveCsvBills(uploadCsvDTO.fileBase64());
-            return ResponseEntity.status(HttpStatus.CREATED).build();
+            var job = importJobService.findJob(jobId);
+            return ResponseEntity.ok(CsvImportJobDTO.of(job));
+        } catch (CsvImportJobNotFoundException exception) {
+            var errorResponse = ErrorResponseDTO.notFound(exception.getMessage());
+            return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+        }
+    }
+
+    private ResponseEntity<Object> idempotent(String idempotencyKey, String fingerprint, IdempotencyService.IdempotentAction action) throws IOException {
+        try {
+            return idempotencyService.execute(idempotencyKey, fingerprint, action);
+        } catch (IdempotencyKeyInProgressException exception) {
+            var errorResponse = ErrorResponseDTO.conflit(exception.getMessage());
+            return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+        } catch (InvalidIdempotencyKeyException exception) {
+            var errorResponse = ErrorResponseDTO.invalidIdempotencyKey(exception.getMessage());
+            return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+        }
+    }
+
+    @FunctionalInterface
+    private interface CsvImportJobSubmission {
+        CsvImportJob submit() throws IOException;
+    }
+
+    private ResponseEntity<Object> submitCsvImportJob(InputStream csvFile) throws IOException {
+        return submitCsvImportJob(() -> importJobService.submit(csvFile));
+    }
+
+    private ResponseEntity<Object> submitCsvImportJob(CsvImportJobSubmission submission) throws IOException {
+        try {
+            var job = submission.submit();
+            var location = ServletUriComponentsBuilder
+                    .fromCurrentRequestUri()
+                    .path("/{jobId}")
+                    .buildAndExpand(job.getId())
+                    .toUri();
+
+            return ResponseEntity.accepted().location(location).body(CsvImportJobDTO.of(job));
+        } catch (CsvImportJobLimitException exception) {
+            var errorResponse = ErrorResponseDTO.tooManyRequests(exception.getMessage());
+            return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+        }
+    }
+
+    private ResponseEntity<Object> importSpooledCsvFile(Path file, boolean async) throws IOException {
+        if (async) return submitCsvImportJob(() -> importJobService.submit(file));
+
+        try (var spooledFile = Files.newInputStream(file)) {
+            return saveCsvFile(spooledFile);
+        }
+    }
+
+    private ResponseEntity<Object> saveCsvFile(InputStream csvFile) {
+        try {
+            var result = service.saveCsvBills(csvFile);
+            return ResponseEntity.status(HttpStatus.CREATED).body(result);
         } catch (AlreadyRegisteredBillException exception) {
             var errorResponse = ErrorResponseDTO.conflit(exception.getMessage());
             return ResponseEntity.status(errorResponse.status()).body(errorResponse);
@@ -174,4 +556,24 @@ public class BillController {
             return ResponseEntity.status(errorResponse.status()).body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Converte o cabeçalho If-Match na versão esperada da conta. Sem cabeçalho ou com "*" a atualização não é
+     * condicional; uma ETag que não corresponde a nenhuma versão nunca é satisfeita.
+     */
+    private Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+
+        var tag = ifMatch.trim();
+        if (tag.startsWith("W/")) tag = tag.substring(2);
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException exception) {
+            return -1L;
+        }
+    }
+}
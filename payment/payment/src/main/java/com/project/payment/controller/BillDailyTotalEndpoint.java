@@ -0,0 +1,34 @@
+package com.project.payment.controller;
+
+import com.project.payment.repository.BillDailyTotalMismatch;
+import com.project.payment.service.BillDailyTotalService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "billdailytotals")
+public class BillDailyTotalEndpoint {
+
+    private final BillDailyTotalService service;
+
+    @ReadOperation
+    public Map<String, Object> verify() {
+        List<BillDailyTotalMismatch> mismatches = service.verify();
+        return Map.of(
+                "consistent", mismatches.isEmpty(),
+                "mismatches", mismatches
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        return Map.of("days", service.rebuild());
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.payment.controller;
+
+import com.project.payment.controller.dto.ErrorResponseDTO;
+import com.project.payment.exception.DataBaseBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.Duration;
+
+/**
+ * {@link DataBaseBusyException} pode surgir em qualquer ponto que abra uma conexão e chega envolvida em exceções do
+ * Spring ou do Hibernate; o {@code @ExceptionHandler} também procura a causa, por isso o tratamento fica aqui e não
+ * em cada controller.
+ */
+@RestControllerAdvice
+public class DataBaseBusyExceptionHandler {
+
+    private final long retryAfterSeconds;
+
+    public DataBaseBusyExceptionHandler(@Value("${payment.datasource.acquire-timeout:PT2S}") Duration acquireTimeout) {
+        this.retryAfterSeconds = Math.max(1, acquireTimeout.toSeconds());
+    }
+
+    @ExceptionHandler(DataBaseBusyException.class)
+    public ResponseEntity<ErrorResponseDTO> handleDataBaseBusy(DataBaseBusyException exception) {
+        var errorResponse = ErrorResponseDTO.serviceUnavailable("Serviço sobrecarregado. Tente novamente em instantes.");
+        return ResponseEntity.status(errorResponse.status())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorResponse);
+    }
+}
@@ -0,0 +1,10 @@
+package com.project.payment.controller.dto;
+
+import java.time.Duration;
+
+public record AccessTokenDTO(String accessToken, String tokenType, long expiresIn) {
+
+    public static AccessTokenDTO bearer(String accessToken, Duration timeToLive) {
+        return new AccessTokenDTO(accessToken, "Bearer", timeToLive.toSeconds());
+    }
+}
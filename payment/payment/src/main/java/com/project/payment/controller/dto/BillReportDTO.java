@@ -0,0 +1,17 @@
+package com.project.payment.controller.dto;
+
+import com.project.payment.model.BillReportRow;
+import com.project.payment.model.ReportDateField;
+import com.project.payment.model.ReportPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record BillReportDTO(
+        ReportPeriod groupBy,
+        ReportDateField dateField,
+        LocalDate startDate,
+        LocalDate endDate,
+        List<BillReportRow> rows
+) {
+}
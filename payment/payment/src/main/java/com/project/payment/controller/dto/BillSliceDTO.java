@@ -0,0 +1,8 @@
+package com.project.payment.controller.dto;
+
+import com.project.payment.model.BillSummary;
+
+import java.util.List;
+
+public record BillSliceDTO(List<BillSummary> content, int size, boolean hasNext, String next) {
+}
@@ -0,0 +1,35 @@
+package com.project.payment.controller.dto;
+
+import com.project.payment.model.CsvImportJob;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CsvImportJobDTO(
+        UUID jobId,
+        CsvImportJob.Status status,
+        long rowsParsed,
+        long rowsValidated,
+        long rowsPersisted,
+        long rowsPerSecond,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+
+    public static CsvImportJobDTO of(CsvImportJob job) {
+        return new CsvImportJobDTO(
+                job.getId(),
+                job.getStatus(),
+                job.getRowsParsed().get(),
+                job.getRowsValidated().get(),
+                job.getRowsPersisted().get(),
+                job.getRowsPerSecond(),
+                job.getError(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
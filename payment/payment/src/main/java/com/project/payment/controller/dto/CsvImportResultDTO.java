@@ -0,0 +1,11 @@
+package com.project.payment.controller.dto;
+
+import java.util.concurrent.TimeUnit;
+
+public record CsvImportResultDTO(long rows, long elapsedMillis, long rowsPerSecond, String insertMode) {
+
+    public static CsvImportResultDTO of(long rows, long elapsedNanos, String insertMode) {
+        var rowsPerSecond = elapsedNanos > 0 ? rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : rows;
+        return new CsvImportResultDTO(rows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond, insertMode);
+    }
+}
@@ -12,11 +12,43 @@ public record ErrorResponseDTO(int status, String mensagem) {
         return new ErrorResponseDTO(HttpStatus.NOT_FOUND.value(), messageError);
     }
 
+    public static ErrorResponseDTO preconditionFailed(String messageError) {
+        return new ErrorResponseDTO(HttpStatus.PRECONDITION_FAILED.value(), messageError);
+    }
+
     public static ErrorResponseDTO invalidPeriod(String messageError) {
         return new ErrorResponseDTO(HttpStatus.BAD_REQUEST.value(), messageError);
     }
 
+    public static ErrorResponseDTO invalidCursor(String messageError) {
+        return new ErrorResponseDTO(HttpStatus.BAD_REQUEST.value(), messageError);
+    }
+
+    public static ErrorResponseDTO invalidStatusUpdate(String messageError) {
+        return new ErrorResponseDTO(HttpStatus.BAD_REQUEST.value(), messageError);
+    }
+
     public static ErrorResponseDTO invalidCsvFile(String messageError) {
         return new ErrorResponseDTO(HttpStatus.UNPROCESSABLE_ENTITY.value(), messageError);
     }
+
+    public static ErrorResponseDTO invalidIdempotencyKey(String messageError) {
+        return new ErrorResponseDTO(HttpStatus.UNPROCESSABLE_ENTITY.value(), messageError);
+    }
+
+    public static ErrorResponseDTO unauthorized(String messageError) {
+        return new ErrorResponseDTO(HttpStatus.UNAUTHORIZED.value(), messageError);
+    }
+
+    public static ErrorResponseDTO forbidden(String messageError) {
+        return new ErrorResponseDTO(HttpStatus.FORBIDDEN.value(), messageError);
+    }
+
+    public static ErrorResponseDTO tooManyRequests(String messageError) {
+        return new ErrorResponseDTO(HttpStatus.TOO_MANY_REQUESTS.value(), messageError);
+    }
+
+    public static ErrorResponseDTO serviceUnavailable(String messageError) {
+        return new ErrorResponseDTO(HttpStatus.SERVICE_UNAVAILABLE.value(), messageError);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
 package com.project.payment.controller.dto;
 
-
+import com.project.payment.model.BillStatus;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -27,8 +27,7 @@ public record SaveBillDTO(
         @Size(max = 255, message = "Description deve ter no máximo 255 caracteres")
         String description,
 
-        @NotBlank(message = "status é obrigatório")
-        @Size(max = 50, message = "Status deve ter no máximo 50 caracteres")
-        String status
+        @NotNull(message = "status é obrigatório")
+        BillStatus status
 ) {
 }
\ No newline at end of file
@@ -1,12 +1,11 @@
 package com.project.payment.controller.dto;
 
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Size;
+import com.project.payment.model.BillStatus;
+import jakarta.validation.constraints.NotNull;
 
 public record UpdateBillStatusDTO(
 
-        @NotBlank(message = "status é obrigatório")
-        @Size(max = 50, message = "Status deve ter no máximo 50 caracteres")
-        String status
+        @NotNull(message = "status é obrigatório")
+        BillStatus status
 ) {
 }
\ No newline at end of file
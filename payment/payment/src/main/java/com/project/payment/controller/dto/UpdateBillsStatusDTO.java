@@ -0,0 +1,35 @@
+package com.project.payment.controller.dto;
+
+import com.project.payment.model.BillStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record UpdateBillsStatusDTO(
+
+        @NotNull(message = "status é obrigatório")
+        BillStatus status,
+
+        @Size(max = 10000, message = "Informe no máximo 10000 ids por requisição")
+        List<UUID> ids,
+
+        LocalDate dueDateFrom,
+
+        LocalDate dueDateTo,
+
+        BillStatus currentStatus
+) {
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasFilter() {
+        return dueDateFrom != null || dueDateTo != null || currentStatus != null;
+    }
+}
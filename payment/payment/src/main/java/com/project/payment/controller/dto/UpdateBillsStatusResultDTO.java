@@ -0,0 +1,22 @@
+package com.project.payment.controller.dto;
+
+import com.project.payment.model.BillStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+public record UpdateBillsStatusResultDTO(BillStatus status, int updated, int notFound, List<Result> results) {
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND
+    }
+
+    public record Result(UUID id, Outcome outcome) {
+    }
+
+    public static UpdateBillsStatusResultDTO of(BillStatus status, List<Result> results) {
+        var updated = (int) results.stream().filter(result -> result.outcome() == Outcome.UPDATED).count();
+        return new UpdateBillsStatusResultDTO(status, updated, results.size() - updated, results);
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.payment.exception;
+
+public class BillVersionMismatchException extends RuntimeException {
+
+    public BillVersionMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.payment.exception;
+
+public class CsvImportJobLimitException extends RuntimeException {
+
+    public CsvImportJobLimitException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.payment.exception;
+
+public class CsvImportJobNotFoundException extends RuntimeException {
+
+    public CsvImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.payment.exception;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Nenhuma conexão liberada pelo limite de concorrência dentro do tempo de espera. Chega aos controllers envolvida
+ * nas exceções do Spring e do Hibernate e é respondida com 503.
+ */
+public class DataBaseBusyException extends SQLTransientConnectionException {
+
+    public DataBaseBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.payment.exception;
+
+public class InvalidStatusUpdateException extends RuntimeException {
+
+    public InvalidStatusUpdateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.payment.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class PaymentMetrics {
+
+    public enum CsvStage {
+        DECODE,
+        SPLIT,
+        PARSE,
+        DUPLICATE_CHECK,
+        PERSIST
+    }
+
+    private final Counter billConflicts;
+    private final Counter billsNotFound;
+    private final Counter csvRows;
+    private final Counter idempotentReplays;
+    private final DistributionSummary csvThroughput;
+    private final Map<CsvStage, Timer> csvStageTimers = new EnumMap<>(CsvStage.class);
+
+    public PaymentMetrics(MeterRegistry registry) {
+        billConflicts = Counter.builder("payment.bill.conflicts")
+                .description("Contas rejeitadas por já estarem cadastradas")
+                .register(registry);
+        billsNotFound = Counter.builder("payment.bill.not.found")
+                .description("Buscas por contas inexistentes")
+                .register(registry);
+        csvRows = Counter.builder("payment.csv.rows")
+                .description("Linhas importadas via CSV")
+                .register(registry);
+        idempotentReplays = Counter.builder("payment.idempotent.replays")
+                .description("Requisições repetidas respondidas com a resposta armazenada da Idempotency-Key")
+                .register(registry);
+        csvThroughput = DistributionSummary.builder("payment.csv.throughput")
+                .description("Linhas por segundo de cada importação CSV")
+                .baseUnit("rows/s")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+
+        for (var stage : CsvStage.values()) {
+            csvStageTimers.put(stage, Timer.builder("payment.csv.stage")
+                    .description("Tempo gasto em cada etapa da importação CSV")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    public void billConflict() {
+        billConflicts.increment();
+    }
+
+    public void billNotFound() {
+        billsNotFound.increment();
+    }
+
+    public void idempotentReplay() {
+        idempotentReplays.increment();
+    }
+
+    public void recordCsvStage(CsvStage stage, long elapsedNanos) {
+        csvStageTimers.get(stage).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void csvImportCompleted(long rows, long rowsPerSecond) {
+        csvRows.increment(rows);
+        csvThroughput.record(rowsPerSecond);
+    }
+}
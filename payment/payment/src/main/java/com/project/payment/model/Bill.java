@@ -40,8 +40,13 @@ public class Bill {
     @Column(name = "description")
     private String description;
 
-    @Column(name = "status", length = 50)
-    private String status;
+    @Convert(converter = BillStatusConverter.class)
+    @Column(name = "status", nullable = false)
+    private BillStatus status;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 
     @CreationTimestamp
     @Column(name = "created_at")
@@ -0,0 +1,33 @@
+package com.project.payment.model;
+
+import com.project.payment.exception.InvalidCursorException;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public record BillCursor(LocalDate dueDate, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static BillCursor of(BillSummary bill) {
+        return new BillCursor(bill.dueDate(), bill.id());
+    }
+
+    public static BillCursor decode(String token) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+            var separator = value.indexOf(SEPARATOR);
+            return new BillCursor(LocalDate.parse(value.substring(0, separator)), UUID.fromString(value.substring(separator + 1)));
+        } catch (RuntimeException exception) {
+            throw new InvalidCursorException("Cursor de paginação inválido.");
+        }
+    }
+
+    public String encode() {
+        var value = dueDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+    }
+}
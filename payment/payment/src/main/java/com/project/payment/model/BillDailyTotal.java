@@ -0,0 +1,31 @@
+package com.project.payment.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@Table(name = "bill_daily_total")
+public class BillDailyTotal {
+
+    @Id
+    @Column(name = "payment_date", nullable = false, updatable = false)
+    private LocalDate paymentDate;
+
+    @Column(name = "total_amount", nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(name = "bill_count", nullable = false)
+    private long billCount;
+}
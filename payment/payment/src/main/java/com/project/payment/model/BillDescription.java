@@ -0,0 +1,10 @@
+package com.project.payment.model;
+
+import java.util.UUID;
+
+public record BillDescription(UUID id, String description) {
+
+    public static BillDescription of(Bill bill) {
+        return new BillDescription(bill.getId(), bill.getDescription());
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.payment.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Conta completa retornada na consulta por id. Imutável, então pode ficar no cache sem risco de ser alterada
+ * por quem a recebeu.
+ */
+public record BillDetail(
+        UUID id,
+        LocalDate dueDate,
+        LocalDate paymentDate,
+        BigDecimal amount,
+        String description,
+        BillStatus status,
+        Long version,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.project.payment.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record BillKey(LocalDate dueDate, BigDecimal amount, BillStatus status) {
+
+    public BillKey {
+        amount = amount == null ? null : amount.stripTrailingZeros();
+    }
+
+    public static BillKey of(Bill bill) {
+        return new BillKey(bill.getDueDate(), bill.getAmount(), bill.getStatus());
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.payment.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Totais de um período do relatório (a data é o início do dia, semana ou mês). O status só é preenchido quando o
+ * relatório também é agrupado por status.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BillReportRow(LocalDate period, BillStatus status, BigDecimal total, long count, BigDecimal average) {
+}
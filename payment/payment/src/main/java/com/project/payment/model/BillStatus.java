@@ -0,0 +1,66 @@
+package com.project.payment.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+@Getter
+public enum BillStatus {
+
+    PAGO((short) 1),
+    PENDENTE((short) 2),
+    ATRASADO((short) 3);
+
+    private static final BillStatus[] VALUES = values();
+    private static final String ACCEPTED_VALUES = Arrays.stream(VALUES).map(Enum::name).collect(Collectors.joining(", "));
+
+    private final short code;
+
+    BillStatus(short code) {
+        this.code = code;
+    }
+
+    /**
+     * Converte o status informado pelo usuário, ignorando espaços e maiúsculas/minúsculas.
+     */
+    @JsonCreator
+    public static BillStatus of(String value) {
+        var trimmed = value == null ? "" : value.trim();
+        var status = match(trimmed.toCharArray(), 0, trimmed.length());
+
+        if (status == null) {
+            throw new IllegalArgumentException("Status inválido: " + value + ". Valores aceitos: " + ACCEPTED_VALUES + ".");
+        }
+        return status;
+    }
+
+    /**
+     * Mesma regra de {@link #of(String)} aplicada a um trecho de um buffer, sem alocação. Retorna {@code null}
+     * quando o trecho não corresponde a nenhum status.
+     */
+    public static BillStatus match(char[] chars, int offset, int length) {
+        for (var status : VALUES) {
+            if (status.name().length() == length && status.matches(chars, offset)) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    public static BillStatus fromCode(short code) {
+        for (var status : VALUES) {
+            if (status.code == code) return status;
+        }
+        throw new IllegalArgumentException("Código de status desconhecido: " + code);
+    }
+
+    private boolean matches(char[] chars, int offset) {
+        var name = name();
+        for (int index = 0; index < name.length(); index++) {
+            if (Character.toUpperCase(chars[offset + index]) != name.charAt(index)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.payment.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class BillStatusConverter implements AttributeConverter<BillStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(BillStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    @Override
+    public BillStatus convertToEntityAttribute(Short code) {
+        return code == null ? null : BillStatus.fromCode(code);
+    }
+}
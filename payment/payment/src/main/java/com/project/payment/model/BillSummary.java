@@ -0,0 +1,22 @@
+package com.project.payment.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Colunas exibidas nas listagens, carregadas direto da consulta sem criar entidades gerenciadas.
+ */
+public record BillSummary(
+        UUID id,
+        LocalDate dueDate,
+        LocalDate paymentDate,
+        BigDecimal amount,
+        String description,
+        BillStatus status
+) {
+
+    public static BillSummary of(Bill bill) {
+        return new BillSummary(bill.getId(), bill.getDueDate(), bill.getPaymentDate(), bill.getAmount(), bill.getDescription(), bill.getStatus());
+    }
+}
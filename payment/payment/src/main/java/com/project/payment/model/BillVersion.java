@@ -0,0 +1,24 @@
+package com.project.payment.model;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validadores HTTP da conta: a versão vira a ETag e {@code updatedAt} o Last-Modified. Derivados da conta em cache,
+ * permitem responder 304 sem ir ao banco nem serializar a conta.
+ */
+public record BillVersion(Long version, LocalDateTime updatedAt) {
+
+    public static BillVersion of(BillDetail bill) {
+        return new BillVersion(bill.version(), bill.updatedAt());
+    }
+
+    public String eTag() {
+        return String.valueOf(version);
+    }
+
+    public Instant lastModified() {
+        return updatedAt == null ? Instant.EPOCH : updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.payment.model;
+
+/**
+ * Como a importação de CSV confirma as linhas gravadas.
+ * <ul>
+ *     <li>{@link #ALL}: o arquivo inteiro é uma transação; qualquer erro desfaz todas as linhas.</li>
+ *     <li>{@link #CHUNK}: cada bloco de {@code payment.csv.chunk-size} linhas é confirmado ao ser gravado; um erro
+ *     desfaz apenas o bloco atual e os anteriores permanecem gravados.</li>
+ * </ul>
+ */
+public enum CsvCommitPolicy {
+    ALL,
+    CHUNK
+}
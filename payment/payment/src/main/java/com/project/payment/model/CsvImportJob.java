@@ -0,0 +1,78 @@
+package com.project.payment.model;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+public class CsvImportJob implements CsvImportProgress {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final UUID id = UUID.randomUUID();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong rowsParsed = new AtomicLong();
+    private final AtomicLong rowsValidated = new AtomicLong();
+    private final AtomicLong rowsPersisted = new AtomicLong();
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    @Override
+    public void rowsParsed(int rows) {
+        rowsParsed.addAndGet(rows);
+    }
+
+    @Override
+    public void rowsValidated(int rows) {
+        rowsValidated.addAndGet(rows);
+    }
+
+    @Override
+    public void rowsPersisted(int rows) {
+        rowsPersisted.addAndGet(rows);
+    }
+
+    @Override
+    public void rowsRolledBack(long rows) {
+        rowsPersisted.addAndGet(-rows);
+    }
+
+    public void start() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    public void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public long getRowsPerSecond() {
+        if (startedAt == null) return 0;
+
+        var end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        var elapsedMillis = Duration.between(startedAt, end).toMillis();
+        var rows = status == Status.FAILED ? rowsValidated.get() : rowsPersisted.get();
+        return elapsedMillis > 0 ? rows * 1000 / elapsedMillis : rows;
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.payment.model;
+
+public interface CsvImportProgress {
+
+    CsvImportProgress NONE = new CsvImportProgress() {
+    };
+
+    default void rowsParsed(int rows) {
+    }
+
+    default void rowsValidated(int rows) {
+    }
+
+    default void rowsPersisted(int rows) {
+    }
+
+    /**
+     * Linhas já informadas em {@link #rowsPersisted(int)} que foram desfeitas com a transação.
+     */
+    default void rowsRolledBack(long rows) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.payment.model;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+@Getter
+public enum ExportFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private static final String ACCEPTED_VALUES = Arrays.stream(values())
+            .map(format -> format.name().toLowerCase(Locale.ROOT))
+            .collect(Collectors.joining(", "));
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public static ExportFormat of(String value) {
+        for (var format : values()) {
+            if (format.name().equalsIgnoreCase(value == null ? "" : value.trim())) return format;
+        }
+        throw new IllegalArgumentException("Formato inválido: " + value + ". Valores aceitos: " + ACCEPTED_VALUES + ".");
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.payment.model;
+
+/**
+ * Resposta registrada para uma Idempotency-Key. Enquanto a primeira requisição ainda está em processamento o
+ * registro não tem status.
+ */
+public record IdempotencyRecord(String fingerprint, Integer status, String location, String body) {
+
+    public static IdempotencyRecord pending(String fingerprint) {
+        return new IdempotencyRecord(fingerprint, null, null, null);
+    }
+
+    public boolean isCompleted() {
+        return status != null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.payment.model;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Data usada para filtrar e agrupar os relatórios, com a coluna correspondente da tabela {@code bill}.
+ */
+@Getter
+public enum ReportDateField {
+
+    PAYMENT_DATE("payment_date"),
+    DUE_DATE("due_date");
+
+    private static final String ACCEPTED_VALUES = Arrays.stream(values())
+            .map(field -> field.name().toLowerCase(Locale.ROOT))
+            .collect(Collectors.joining(", "));
+
+    private final String column;
+
+    ReportDateField(String column) {
+        this.column = column;
+    }
+
+    /**
+     * Aceita o nome da coluna ({@code payment_date}) ou da propriedade ({@code paymentDate}).
+     */
+    public static ReportDateField of(String value) {
+        var normalized = value == null ? "" : value.trim().replace("_", "");
+        for (var field : values()) {
+            if (field.name().replace("_", "").equalsIgnoreCase(normalized)) return field;
+        }
+        throw new IllegalArgumentException("Campo de data inválido: " + value + ". Valores aceitos: " + ACCEPTED_VALUES + ".");
+    }
+}
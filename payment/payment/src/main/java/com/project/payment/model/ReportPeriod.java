@@ -0,0 +1,36 @@
+package com.project.payment.model;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Agrupamento temporal dos relatórios. A unidade é um valor fixo do enum, nunca texto do usuário, por isso pode
+ * ser inserida diretamente no {@code date_trunc} da consulta.
+ */
+@Getter
+public enum ReportPeriod {
+
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month");
+
+    private static final String ACCEPTED_VALUES = Arrays.stream(values())
+            .map(period -> period.name().toLowerCase(Locale.ROOT))
+            .collect(Collectors.joining(", "));
+
+    private final String truncUnit;
+
+    ReportPeriod(String truncUnit) {
+        this.truncUnit = truncUnit;
+    }
+
+    public static ReportPeriod of(String value) {
+        for (var period : values()) {
+            if (period.name().equalsIgnoreCase(value == null ? "" : value.trim())) return period;
+        }
+        throw new IllegalArgumentException("Agrupamento inválido: " + value + ". Valores aceitos: " + ACCEPTED_VALUES + ".");
+    }
+}
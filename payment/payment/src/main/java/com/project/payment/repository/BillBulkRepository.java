@@ -0,0 +1,212 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+import com.project.payment.model.BillStatus;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class BillBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO bill " +
+            "(id, due_date, payment_date, amount, description, status, version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String COPY_SQL = "COPY bill " +
+            "(id, due_date, payment_date, amount, description, status, version, created_at, updated_at) " +
+            "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String UPDATE_STATUS_BY_IDS_SQL = "UPDATE bill SET status = ?, version = version + 1, updated_at = ? " +
+            "WHERE id = ANY (?) RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Getter
+    @Value("${payment.csv.insert-mode:BATCH}")
+    private BulkInsertMode insertMode;
+
+    @Value("${payment.csv.batch-size:1000}")
+    private int batchSize;
+
+    public void insertAll(List<Bill> bills) {
+        if (bills.isEmpty()) return;
+
+        switch (insertMode) {
+            case JPA -> persistAll(bills);
+            case BATCH -> batchInsert(bills);
+            case COPY -> copyInsert(bills);
+        }
+    }
+
+    /**
+     * Atualiza o status das contas informadas, em blocos de {@code batchSize} ids por comando. Retorna os ids
+     * encontrados.
+     */
+    public Set<UUID> updateStatusByIds(Collection<UUID> ids, BillStatus status) {
+        var updatedIds = new HashSet<UUID>(ids.size());
+        var pendingIds = List.copyOf(ids);
+        var now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int start = 0; start < pendingIds.size(); start += batchSize) {
+            var chunk = pendingIds.subList(start, Math.min(start + batchSize, pendingIds.size()));
+            updatedIds.addAll(jdbcTemplate.query(UPDATE_STATUS_BY_IDS_SQL, statement -> {
+                statement.setShort(1, status.getCode());
+                statement.setTimestamp(2, now);
+                statement.setArray(3, statement.getConnection().createArrayOf("uuid", chunk.toArray()));
+            }, (resultSet, rowNumber) -> resultSet.getObject(1, UUID.class)));
+        }
+        return updatedIds;
+    }
+
+    /**
+     * Atualiza o status das contas que atendem ao filtro, {@code batchSize} contas por comando, até não restar
+     * nenhuma com status diferente do novo. Os códigos de status entram como literais na consulta para que o
+     * planejador use os índices parciais por status.
+     */
+    public List<UUID> updateStatusWhere(LocalDate dueDateFrom, LocalDate dueDateTo, BillStatus currentStatus, BillStatus status) {
+        var sql = new StringBuilder("UPDATE bill SET status = ?, version = version + 1, updated_at = ? WHERE id IN (SELECT id FROM bill WHERE status <> ")
+                .append(status.getCode());
+        var parameters = new ArrayList<Object>();
+        if (currentStatus != null) {
+            sql.append(" AND status = ").append(currentStatus.getCode());
+        }
+        if (dueDateFrom != null) {
+            sql.append(" AND due_date >= ?");
+            parameters.add(Date.valueOf(dueDateFrom));
+        }
+        if (dueDateTo != null) {
+            sql.append(" AND due_date <= ?");
+            parameters.add(Date.valueOf(dueDateTo));
+        }
+        sql.append(" LIMIT ?) RETURNING id");
+
+        var updatedIds = new ArrayList<UUID>();
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        List<UUID> chunk;
+        do {
+            chunk = jdbcTemplate.query(sql.toString(), statement -> {
+                var index = 1;
+                statement.setShort(index++, status.getCode());
+                statement.setTimestamp(index++, now);
+                for (var parameter : parameters) {
+                    statement.setObject(index++, parameter);
+                }
+                statement.setInt(index, batchSize);
+            }, (resultSet, rowNumber) -> resultSet.getObject(1, UUID.class));
+            updatedIds.addAll(chunk);
+        } while (chunk.size() == batchSize);
+
+        return updatedIds;
+    }
+
+    private void persistAll(List<Bill> bills) {
+        for (int i = 0; i < bills.size(); i++) {
+            entityManager.persist(bills.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void batchInsert(List<Bill> bills) {
+        var now = LocalDateTime.now();
+        bills.forEach(bill -> prepareForInsert(bill, now));
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, bills, batchSize, this::setInsertValues);
+    }
+
+    private void copyInsert(List<Bill> bills) {
+        var now = LocalDateTime.now();
+        var rows = new StringBuilder(bills.size() * 128);
+
+        for (var bill : bills) {
+            prepareForInsert(bill, now);
+            appendCopyRow(rows, bill);
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(rows.toString()));
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+    }
+
+    private void prepareForInsert(Bill bill, LocalDateTime now) {
+        bill.setId(UUID.randomUUID());
+        bill.setVersion(0L);
+        bill.setCreatedAt(now);
+        bill.setUpdatedAt(now);
+    }
+
+    private void setInsertValues(PreparedStatement statement, Bill bill) throws SQLException {
+        statement.setObject(1, bill.getId());
+        statement.setDate(2, Date.valueOf(bill.getDueDate()));
+        statement.setDate(3, bill.getPaymentDate() == null ? null : Date.valueOf(bill.getPaymentDate()));
+        statement.setBigDecimal(4, bill.getAmount());
+        statement.setString(5, bill.getDescription());
+        statement.setShort(6, bill.getStatus().getCode());
+        statement.setLong(7, bill.getVersion());
+        statement.setTimestamp(8, Timestamp.valueOf(bill.getCreatedAt()));
+        statement.setTimestamp(9, Timestamp.valueOf(bill.getUpdatedAt()));
+    }
+
+    private void appendCopyRow(StringBuilder rows, Bill bill) {
+        rows.append(bill.getId()).append(',')
+                .append(bill.getDueDate()).append(',');
+        if (bill.getPaymentDate() != null) {
+            rows.append(bill.getPaymentDate());
+        }
+        rows.append(',').append(bill.getAmount().toPlainString()).append(',');
+        appendCopyText(rows, bill.getDescription());
+        rows.append(',').append(bill.getStatus().getCode())
+                .append(',').append(bill.getVersion())
+                .append(',').append(bill.getCreatedAt())
+                .append(',').append(bill.getUpdatedAt())
+                .append('\n');
+    }
+
+    private void appendCopyText(StringBuilder rows, String value) {
+        if (value == null) return;
+
+        rows.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            var character = value.charAt(i);
+            if (character == '"') {
+                rows.append('"');
+            }
+            rows.append(character);
+        }
+        rows.append('"');
+    }
+}
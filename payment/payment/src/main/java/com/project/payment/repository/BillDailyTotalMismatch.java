@@ -0,0 +1,17 @@
+package com.project.payment.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface BillDailyTotalMismatch {
+
+    LocalDate getPaymentDate();
+
+    BigDecimal getExpectedAmount();
+
+    BigDecimal getStoredAmount();
+
+    Long getExpectedCount();
+
+    Long getStoredCount();
+}
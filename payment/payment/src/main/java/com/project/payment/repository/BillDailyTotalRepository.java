@@ -0,0 +1,55 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.BillDailyTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface BillDailyTotalRepository extends JpaRepository<BillDailyTotal, LocalDate> {
+
+    @Query("SELECT SUM(t.totalAmount) FROM BillDailyTotal t " +
+            "WHERE t.paymentDate " +
+            "BETWEEN :startDate AND :endDate")
+    Optional<BigDecimal> sumTotalAmountByPaymentDateBetween(LocalDate startDate, LocalDate endDate);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO bill_daily_total (payment_date, total_amount, bill_count) " +
+            "VALUES (:paymentDate, :amount, :count) " +
+            "ON CONFLICT (payment_date) DO UPDATE SET " +
+            "total_amount = bill_daily_total.total_amount + EXCLUDED.total_amount, " +
+            "bill_count = bill_daily_total.bill_count + EXCLUDED.bill_count")
+    void addToDailyTotal(LocalDate paymentDate, BigDecimal amount, long count);
+
+    @Query(nativeQuery = true, value = "SELECT COALESCE(b.payment_date, t.payment_date) AS paymentDate, " +
+            "COALESCE(b.total_amount, 0) AS expectedAmount, " +
+            "COALESCE(t.total_amount, 0) AS storedAmount, " +
+            "COALESCE(b.bill_count, 0) AS expectedCount, " +
+            "COALESCE(t.bill_count, 0) AS storedCount " +
+            "FROM (SELECT payment_date, SUM(amount) AS total_amount, COUNT(*) AS bill_count " +
+            "      FROM bill WHERE payment_date IS NOT NULL GROUP BY payment_date) b " +
+            "FULL OUTER JOIN bill_daily_total t ON t.payment_date = b.payment_date " +
+            "WHERE COALESCE(b.total_amount, 0) <> COALESCE(t.total_amount, 0) " +
+            "OR COALESCE(b.bill_count, 0) <> COALESCE(t.bill_count, 0) " +
+            "ORDER BY 1")
+    List<BillDailyTotalMismatch> findMismatches();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "LOCK TABLE bill IN SHARE MODE")
+    void lockBillTable();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM bill_daily_total")
+    void deleteAllDailyTotals();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO bill_daily_total (payment_date, total_amount, bill_count) " +
+            "SELECT payment_date, SUM(amount), COUNT(*) FROM bill " +
+            "WHERE payment_date IS NOT NULL " +
+            "GROUP BY payment_date")
+    int insertDailyTotalsFromBills();
+}
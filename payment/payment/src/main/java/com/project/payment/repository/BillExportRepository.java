@@ -0,0 +1,15 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+
+import java.util.stream.Stream;
+
+public interface BillExportRepository {
+
+    /**
+     * Percorre as contas do filtro em ordem de vencimento usando um cursor do banco. Cada conta é desanexada do
+     * contexto de persistência ao ser lida, então o consumo de memória não cresce com a quantidade de linhas.
+     * Precisa ser consumido dentro de uma transação e fechado ao final.
+     */
+    Stream<Bill> streamBills(BillFilter filter);
+}
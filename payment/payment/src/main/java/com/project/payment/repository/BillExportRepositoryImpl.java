@@ -0,0 +1,42 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class BillExportRepositoryImpl implements BillExportRepository {
+
+    private final EntityManager entityManager;
+
+    @Value("${payment.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    public Stream<Bill> streamBills(BillFilter filter) {
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createQuery(Bill.class);
+        var root = query.from(Bill.class);
+
+        var predicate = filter.toSpecification().toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(builder.asc(root.get("dueDate")), builder.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(this::detach);
+    }
+
+    private Bill detach(Bill bill) {
+        entityManager.detach(bill);
+        return bill;
+    }
+}
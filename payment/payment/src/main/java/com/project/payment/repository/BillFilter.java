@@ -0,0 +1,26 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+import com.project.payment.model.BillStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+public record BillFilter(
+        LocalDate dueDate,
+        LocalDate dueDateFrom,
+        LocalDate dueDateTo,
+        String description,
+        BillStatus status
+) {
+
+    public Specification<Bill> toSpecification() {
+        return Specification.allOf(
+                BillSpecification.dueDateEquals(dueDate),
+                BillSpecification.dueDateFrom(dueDateFrom),
+                BillSpecification.dueDateTo(dueDateTo),
+                BillSpecification.descriptionContains(description),
+                BillSpecification.statusEquals(status)
+        );
+    }
+}
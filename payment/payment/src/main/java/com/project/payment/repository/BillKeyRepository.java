@@ -0,0 +1,15 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.BillKey;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BillKeyRepository {
+
+    /**
+     * Chaves já gravadas entre as informadas. A comparação é pela tupla (vencimento, valor, status), não por cada
+     * coluna separadamente.
+     */
+    List<BillKey> findBillKeys(Collection<BillKey> keys);
+}
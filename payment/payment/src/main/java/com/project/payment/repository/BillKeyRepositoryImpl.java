@@ -0,0 +1,45 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.BillKey;
+import com.project.payment.model.BillStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BillKeyRepositoryImpl implements BillKeyRepository {
+
+    /**
+     * As chaves chegam como três arrays paralelos e viram linhas com {@code unnest}; o join usa o índice
+     * (due_date, amount, status) de cada partição.
+     */
+    private static final String FIND_BILL_KEYS_SQL = "SELECT b.due_date, b.amount, b.status FROM bill b " +
+            "JOIN unnest(?, ?, ?) AS k(due_date, amount, status) " +
+            "ON b.due_date = k.due_date AND b.amount = k.amount AND b.status = k.status";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<BillKey> findBillKeys(Collection<BillKey> keys) {
+        if (keys.isEmpty()) return List.of();
+
+        var dueDates = keys.stream().map(key -> Date.valueOf(key.dueDate())).toArray();
+        var amounts = keys.stream().map(BillKey::amount).toArray();
+        var statuses = keys.stream().map(key -> key.status().getCode()).toArray();
+
+        return jdbcTemplate.query(FIND_BILL_KEYS_SQL, statement -> {
+            var connection = statement.getConnection();
+            statement.setArray(1, connection.createArrayOf("date", dueDates));
+            statement.setArray(2, connection.createArrayOf("numeric", amounts));
+            statement.setArray(3, connection.createArrayOf("int2", statuses));
+        }, (resultSet, rowNumber) -> new BillKey(
+                resultSet.getObject(1, LocalDate.class),
+                resultSet.getBigDecimal(2),
+                BillStatus.fromCode(resultSet.getShort(3))
+        ));
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.BillReportRow;
+import com.project.payment.model.BillStatus;
+import com.project.payment.model.ReportDateField;
+import com.project.payment.model.ReportPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BillReportRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Soma, contagem e média por período em um único GROUP BY. Unidade e coluna vêm dos enums, então são
+     * concatenadas na consulta; apenas as datas são parâmetros.
+     */
+    public List<BillReportRow> aggregate(ReportDateField dateField, ReportPeriod groupBy, boolean byStatus, LocalDate startDate, LocalDate endDate) {
+        var column = dateField.getColumn();
+        var sql = new StringBuilder("SELECT CAST(date_trunc('").append(groupBy.getTruncUnit()).append("', ").append(column)
+                .append(") AS DATE) AS period, ");
+        if (byStatus) {
+            sql.append("status, ");
+        }
+        sql.append("SUM(amount) AS total, COUNT(*) AS bill_count, ROUND(AVG(amount), 2) AS average FROM bill WHERE ")
+                .append(column).append(" BETWEEN ? AND ? GROUP BY period");
+        if (byStatus) {
+            sql.append(", status");
+        }
+        sql.append(" ORDER BY period");
+        if (byStatus) {
+            sql.append(", status");
+        }
+
+        return jdbcTemplate.query(sql.toString(), (resultSet, rowNumber) -> new BillReportRow(
+                resultSet.getObject("period", LocalDate.class),
+                byStatus ? BillStatus.fromCode(resultSet.getShort("status")) : null,
+                resultSet.getBigDecimal("total"),
+                resultSet.getLong("bill_count"),
+                resultSet.getBigDecimal("average")
+        ), Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+}
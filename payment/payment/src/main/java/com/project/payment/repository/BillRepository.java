@@ -1,21 +1,50 @@
 package com.project.payment.repository;
 
 import com.project.payment.model.Bill;
+import com.project.payment.model.BillDescription;
+import com.project.payment.model.BillDetail;
+import com.project.payment.model.BillStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface BillRepository extends JpaRepository<Bill, UUID>, JpaSpecificationExecutor<Bill> {
+public interface BillRepository extends JpaRepository<Bill, UUID>, JpaSpecificationExecutor<Bill>, BillExportRepository, BillSummaryRepository, BillKeyRepository {
 
-    Optional<Bill> findByDueDateAndAmountAndStatus(LocalDate dueDate, BigDecimal amount, String status);
+    Optional<Bill> findByDueDateAndAmountAndStatus(LocalDate dueDate, BigDecimal amount, BillStatus status);
+
+    boolean existsByDueDateAndAmountAndStatusAndIdNot(LocalDate dueDate, BigDecimal amount, BillStatus status, UUID id);
+
+    @Query("SELECT new com.project.payment.model.BillDetail(b.id, b.dueDate, b.paymentDate, b.amount, b.description, " +
+            "b.status, b.version, b.createdAt, b.updatedAt) FROM Bill b WHERE b.id = :id")
+    Optional<BillDetail> findDetailById(UUID id);
 
     @Query("SELECT SUM(b.amount) FROM Bill b " +
             "WHERE b.paymentDate " +
             "BETWEEN :startDate AND :endDate")
     Optional<BigDecimal> sumBillAmountByPaymentDateBetween(LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.project.payment.model.BillDescription(b.id, b.description) FROM Bill b")
+    List<BillDescription> findAllDescriptions();
+
+    @Query(value = "SELECT * FROM bill WHERE lower(description) LIKE :pattern ESCAPE '\\' " +
+            "ORDER BY similarity(lower(description), :text) DESC, due_date, id LIMIT :limit", nativeQuery = true)
+    List<Bill> searchByDescription(String pattern, String text, int limit);
+
+    @Modifying
+    @Query("UPDATE Bill b SET b.status = :status, b.version = b.version + 1, b.updatedAt = :updatedAt " +
+            "WHERE b.id = :id")
+    int updateStatus(UUID id, BillStatus status, LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE Bill b SET b.status = :status, b.version = b.version + 1, b.updatedAt = :updatedAt " +
+            "WHERE b.id = :id AND b.version = :version")
+    int updateStatus(UUID id, BillStatus status, long version, LocalDateTime updatedAt);
+}
@@ -0,0 +1,21 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Busca textual pela descrição das contas, ordenada por relevância.
+ */
+public interface BillSearchIndex {
+
+    List<Bill> search(String text, int limit);
+
+    /**
+     * Informa contas criadas ou com a descrição alterada. As buscas devolvem sempre a linha atual, então mudanças que
+     * não tocam a descrição não precisam passar por aqui. Índices mantidos pelo banco não precisam fazer nada.
+     */
+    default void index(Collection<Bill> bills) {
+    }
+}
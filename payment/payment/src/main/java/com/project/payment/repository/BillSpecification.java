@@ -0,0 +1,58 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+import com.project.payment.model.BillStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+public class BillSpecification {
+
+    static final char LIKE_ESCAPE = '\\';
+
+    private BillSpecification() {
+    }
+
+    public static Specification<Bill> dueDateEquals(LocalDate dueDate) {
+        if (dueDate == null) return null;
+        return (root, query, builder) -> builder.equal(root.get("dueDate"), dueDate);
+    }
+
+    public static Specification<Bill> dueDateFrom(LocalDate dueDateFrom) {
+        if (dueDateFrom == null) return null;
+        return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("dueDate"), dueDateFrom);
+    }
+
+    public static Specification<Bill> dueDateTo(LocalDate dueDateTo) {
+        if (dueDateTo == null) return null;
+        return (root, query, builder) -> builder.lessThanOrEqualTo(root.get("dueDate"), dueDateTo);
+    }
+
+    public static Specification<Bill> statusEquals(BillStatus status) {
+        if (status == null) return null;
+        return (root, query, builder) -> builder.equal(root.get("status"), status);
+    }
+
+    public static Specification<Bill> descriptionContains(String description) {
+        if (description == null) return null;
+        var pattern = containsPattern(description.toLowerCase(Locale.ROOT));
+        return (root, query, builder) -> builder.like(builder.lower(root.get("description")), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * Padrão {@code LIKE '%texto%'} com {@code \}, {@code %} e {@code _} escapados, para que o texto seja
+     * procurado literalmente. Deve ser usado com {@code ESCAPE '\'}.
+     */
+    static String containsPattern(String text) {
+        var pattern = new StringBuilder(text.length() + 2).append('%');
+        for (int i = 0; i < text.length(); i++) {
+            var character = text.charAt(i);
+            if (character == LIKE_ESCAPE || character == '%' || character == '_') {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(character);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.BillCursor;
+import com.project.payment.model.BillSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface BillSummaryRepository {
+
+    /**
+     * Página de contas do filtro, ordenada por vencimento e id, selecionando apenas as colunas de
+     * {@link BillSummary}. A contagem só é executada quando não dá para deduzi-la da própria página.
+     */
+    Page<BillSummary> findSummaries(BillFilter filter, Pageable pageable);
+
+    /**
+     * Até {@code limit} contas do filtro posteriores a {@code after} na ordem (vencimento, id), pelo mesmo predicado
+     * de keyset e a mesma projeção de {@link #findSummaries}. Sem cursor, começa pela primeira conta.
+     */
+    List<BillSummary> findSummariesAfter(BillFilter filter, BillCursor after, int limit);
+}
@@ -0,0 +1,82 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+import com.project.payment.model.BillCursor;
+import com.project.payment.model.BillSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BillSummaryRepositoryImpl implements BillSummaryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<BillSummary> findSummaries(BillFilter filter, Pageable pageable) {
+        var content = entityManager.createQuery(summaryQuery(filter, null))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(filter));
+    }
+
+    @Override
+    public List<BillSummary> findSummariesAfter(BillFilter filter, BillCursor after, int limit) {
+        return entityManager.createQuery(summaryQuery(filter, after))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private CriteriaQuery<BillSummary> summaryQuery(BillFilter filter, BillCursor after) {
+        var specification = filter.toSpecification();
+        var builder = entityManager.getCriteriaBuilder();
+
+        var query = builder.createQuery(BillSummary.class);
+        var root = query.from(Bill.class);
+        query.select(builder.construct(BillSummary.class,
+                root.get("id"),
+                root.get("dueDate"),
+                root.get("paymentDate"),
+                root.get("amount"),
+                root.get("description"),
+                root.get("status")
+        ));
+
+        var predicates = new ArrayList<Predicate>(2);
+        var predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (after != null) {
+            predicates.add(builder.or(
+                    builder.greaterThan(root.get("dueDate"), after.dueDate()),
+                    builder.and(builder.equal(root.get("dueDate"), after.dueDate()), builder.greaterThan(root.get("id"), after.id()))
+            ));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(builder.asc(root.get("dueDate")), builder.asc(root.get("id")));
+        return query;
+    }
+
+    private long count(BillFilter filter) {
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createQuery(Long.class);
+        var root = query.from(Bill.class);
+        query.select(builder.count(root));
+
+        var predicate = filter.toSpecification().toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
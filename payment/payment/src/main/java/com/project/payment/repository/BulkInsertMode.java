@@ -0,0 +1,7 @@
+package com.project.payment.repository;
+
+public enum BulkInsertMode {
+    JPA,
+    BATCH,
+    COPY
+}
@@ -0,0 +1,80 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Chaves das linhas já lidas em uma importação CSV, gravadas em {@code csv_import_key}. A memória usada fica
+ * limitada ao bloco em andamento, qualquer que seja o tamanho do arquivo.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CsvImportKeyRepository {
+
+    /**
+     * Grava as chaves do bloco e, na mesma consulta, procura as que já estavam na tabela. A consulta principal vê a
+     * tabela como estava antes do INSERT, então só encontra chaves de blocos anteriores.
+     */
+    private static final String REGISTER_KEYS_SQL = "WITH input AS (" +
+            "SELECT * FROM unnest(?, ?, ?, ?) AS k(due_date, amount, status, line_number)), " +
+            "inserted AS (INSERT INTO csv_import_key (import_id, due_date, amount, status, line_number) " +
+            "SELECT ?, due_date, amount, status, line_number FROM input ON CONFLICT DO NOTHING) " +
+            "SELECT i.line_number, c.line_number FROM input i JOIN csv_import_key c " +
+            "ON c.import_id = ? AND c.due_date = i.due_date AND c.amount = i.amount AND c.status = i.status " +
+            "ORDER BY i.line_number LIMIT 1";
+
+    private static final String DELETE_KEYS_SQL = "DELETE FROM csv_import_key WHERE import_id = ? " +
+            "OR created_at < CURRENT_TIMESTAMP - INTERVAL '1 day'";
+
+    public record RepeatedLine(int lineNumber, int previousLineNumber) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Registra as chaves das linhas informadas, que não podem se repetir entre si, e devolve a primeira linha cuja
+     * chave já tinha sido registrada por uma chamada anterior da mesma importação.
+     */
+    public Optional<RepeatedLine> registerKeys(UUID importId, Map<Integer, Bill> billsByLine) {
+        if (billsByLine.isEmpty()) return Optional.empty();
+
+        var bills = billsByLine.values();
+        var dueDates = bills.stream().map(bill -> Date.valueOf(bill.getDueDate())).toArray();
+        var amounts = bills.stream().map(Bill::getAmount).toArray();
+        var statuses = bills.stream().map(bill -> bill.getStatus().getCode()).toArray();
+        var lineNumbers = billsByLine.keySet().toArray();
+
+        var repeated = jdbcTemplate.query(REGISTER_KEYS_SQL, statement -> {
+            var connection = statement.getConnection();
+            statement.setArray(1, connection.createArrayOf("date", dueDates));
+            statement.setArray(2, connection.createArrayOf("numeric", amounts));
+            statement.setArray(3, connection.createArrayOf("int2", statuses));
+            statement.setArray(4, connection.createArrayOf("int4", lineNumbers));
+            statement.setObject(5, importId);
+            statement.setObject(6, importId);
+        }, (resultSet, rowNumber) -> new RepeatedLine(resultSet.getInt(1), resultSet.getInt(2)));
+        return repeated.stream().findFirst();
+    }
+
+    /**
+     * Remove as chaves da importação e as de importações interrompidas há mais de um dia. Falhas só são registradas,
+     * para não esconder o erro que encerrou a importação.
+     */
+    public void deleteKeys(UUID importId) {
+        try {
+            jdbcTemplate.update(DELETE_KEYS_SQL, importId);
+        } catch (DataAccessException exception) {
+            log.warn("Não foi possível remover as chaves da importação {}", importId, exception);
+        }
+    }
+}
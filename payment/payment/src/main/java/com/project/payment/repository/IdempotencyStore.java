@@ -0,0 +1,24 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.IdempotencyRecord;
+
+import java.util.Optional;
+
+/**
+ * Armazena as respostas de requisições com Idempotency-Key por um tempo limitado.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Reserva a chave para a requisição atual. Retorna vazio quando a reserva foi feita, ou o registro existente
+     * quando a chave já foi usada (concluída ou ainda em processamento).
+     */
+    Optional<IdempotencyRecord> claim(String key, String fingerprint);
+
+    void complete(String key, IdempotencyRecord record);
+
+    /**
+     * Libera a chave quando a requisição falha, para que uma nova tentativa seja processada.
+     */
+    void release(String key);
+}
@@ -0,0 +1,154 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+import com.project.payment.model.BillDescription;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de trigramas em memória, usado nos testes e em ambientes sem PostgreSQL. Segue a mesma regra da busca no
+ * banco: a descrição precisa conter o texto, e a ordenação é pela similaridade de trigramas.
+ * <p>
+ * Guarda só o id e a descrição de cada conta. As contas encontradas são lidas do banco a cada busca, então mudanças
+ * que não alteram a descrição (status, pagamento) aparecem sem precisar reindexar.
+ */
+public class InMemoryBillSearchIndex implements BillSearchIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final Comparator<Bill> TIE_BREAK = Comparator.comparing(Bill::getDueDate).thenComparing(Bill::getId);
+
+    private final BillRepository repository;
+    private final Map<UUID, String> indexedDescriptions = new HashMap<>();
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InMemoryBillSearchIndex(BillRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Só as contas com similaridade suficiente para entrar no limite (empates incluídos) são lidas do banco; o
+     * desempate por vencimento é feito depois da leitura.
+     */
+    @Override
+    public List<Bill> search(String text, int limit) {
+        var query = normalize(text.trim());
+        var queryGrams = grams(query);
+
+        var scores = new HashMap<UUID, Double>();
+        lock.readLock().lock();
+        try {
+            for (var id : candidates(queryGrams)) {
+                var description = indexedDescriptions.get(id);
+                if (description.contains(query)) {
+                    scores.put(id, similarity(queryGrams, grams(description)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (scores.isEmpty()) return List.of();
+
+        var cutoff = scores.values().stream()
+                .sorted(Comparator.reverseOrder())
+                .skip(Math.min(limit, scores.size()) - 1L)
+                .findFirst()
+                .orElseThrow();
+        var ids = scores.entrySet().stream()
+                .filter(entry -> entry.getValue() >= cutoff)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        return repository.findAllById(ids).stream()
+                .sorted(Comparator.<Bill>comparingDouble(bill -> -scores.get(bill.getId())).thenComparing(TIE_BREAK))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Carrega as descrições já gravadas, sem trazer as entidades.
+     */
+    public void load(Collection<BillDescription> descriptions) {
+        put(descriptions);
+    }
+
+    /**
+     * Dentro de uma transação, as contas só entram no índice depois do commit.
+     */
+    @Override
+    public void index(Collection<Bill> changedBills) {
+        var snapshot = changedBills.stream().map(BillDescription::of).toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(snapshot);
+                }
+            });
+        } else {
+            put(snapshot);
+        }
+    }
+
+    private void put(Collection<BillDescription> changedBills) {
+        lock.writeLock().lock();
+        try {
+            for (var bill : changedBills) {
+                var description = normalize(bill.description());
+                var previousDescription = indexedDescriptions.put(bill.id(), description);
+                if (previousDescription != null) {
+                    grams(previousDescription).forEach(gram -> removePosting(gram, bill.id()));
+                }
+                grams(description).forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(bill.id()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Collection<UUID> candidates(Set<String> queryGrams) {
+        if (queryGrams.isEmpty()) return indexedDescriptions.keySet();
+
+        Set<UUID> candidates = null;
+        for (var gram : queryGrams) {
+            var ids = postings.getOrDefault(gram, Set.of());
+            if (candidates == null) {
+                candidates = new HashSet<>(ids);
+            } else {
+                candidates.retainAll(ids);
+            }
+            if (candidates.isEmpty()) break;
+        }
+        return candidates;
+    }
+
+    private void removePosting(String gram, UUID id) {
+        var ids = postings.get(gram);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            postings.remove(gram);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String value) {
+        var grams = new HashSet<String>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static double similarity(Set<String> queryGrams, Set<String> descriptionGrams) {
+        if (queryGrams.isEmpty() || descriptionGrams.isEmpty()) return 0;
+
+        var shared = queryGrams.stream().filter(descriptionGrams::contains).count();
+        return (double) shared / (queryGrams.size() + descriptionGrams.size() - shared);
+    }
+}
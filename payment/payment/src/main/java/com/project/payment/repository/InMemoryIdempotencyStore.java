@@ -0,0 +1,39 @@
+package com.project.payment.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.payment.model.IdempotencyRecord;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Chaves mantidas em memória, limitadas em quantidade e expiradas após o tempo de retenção. Não é compartilhado
+ * entre instâncias da aplicação.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, IdempotencyRecord> records;
+
+    public InMemoryIdempotencyStore(long maximumSize, Duration timeToLive) {
+        this.records = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+        return Optional.ofNullable(records.asMap().putIfAbsent(key, IdempotencyRecord.pending(fingerprint)));
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        records.put(key, record);
+    }
+
+    @Override
+    public void release(String key) {
+        records.invalidate(key);
+    }
+}
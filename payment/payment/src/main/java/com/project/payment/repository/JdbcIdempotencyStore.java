@@ -0,0 +1,91 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.IdempotencyRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Chaves gravadas na tabela idempotency_key, compartilhadas entre instâncias. A reserva usa a chave primária
+ * para que apenas uma requisição concorrente processe cada chave, e registros expirados são removidos no máximo
+ * uma vez por intervalo de limpeza.
+ * <p>
+ * A reserva vale por {@code leaseTime}: se a requisição que a fez for interrompida sem liberá-la, outra requisição
+ * assume a chave depois desse prazo, em vez de esperar o tempo de retenção.
+ */
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private static final String CLAIM_SQL = "INSERT INTO idempotency_key (idempotency_key, fingerprint, created_at, lease_expires_at) " +
+            "VALUES (?, ?, ?, ?) ON CONFLICT (idempotency_key) DO NOTHING";
+
+    private static final String TAKE_OVER_SQL = "UPDATE idempotency_key SET fingerprint = ?, created_at = ?, lease_expires_at = ? " +
+            "WHERE idempotency_key = ? AND status IS NULL AND lease_expires_at < ?";
+
+    private static final String FIND_SQL = "SELECT fingerprint, status, location, body FROM idempotency_key " +
+            "WHERE idempotency_key = ?";
+
+    private static final String COMPLETE_SQL = "UPDATE idempotency_key SET status = ?, location = ?, body = ? " +
+            "WHERE idempotency_key = ?";
+
+    private static final String DELETE_EXPIRED_KEY_SQL = "DELETE FROM idempotency_key " +
+            "WHERE idempotency_key = ? AND created_at < ?";
+
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM idempotency_key WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration timeToLive;
+    private final Duration leaseTime;
+    private final AtomicReference<LocalDateTime> nextPurge = new AtomicReference<>(LocalDateTime.MIN);
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Duration timeToLive, Duration leaseTime) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.timeToLive = timeToLive;
+        this.leaseTime = leaseTime;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+        var now = LocalDateTime.now();
+        var expiredBefore = Timestamp.valueOf(now.minus(timeToLive));
+        purgeExpired(now, expiredBefore);
+        jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, key, expiredBefore);
+
+        var createdAt = Timestamp.valueOf(now);
+        var leaseExpiresAt = Timestamp.valueOf(now.plus(leaseTime));
+        if (jdbcTemplate.update(CLAIM_SQL, key, fingerprint, createdAt, leaseExpiresAt) > 0
+                || jdbcTemplate.update(TAKE_OVER_SQL, fingerprint, createdAt, leaseExpiresAt, key, createdAt) > 0) {
+            return Optional.empty();
+        }
+
+        var records = jdbcTemplate.query(FIND_SQL, (resultSet, rowNumber) -> new IdempotencyRecord(
+                resultSet.getString("fingerprint"),
+                resultSet.getObject("status", Integer.class),
+                resultSet.getString("location"),
+                resultSet.getString("body")
+        ), key);
+        return records.isEmpty() ? Optional.of(IdempotencyRecord.pending(fingerprint)) : Optional.of(records.getFirst());
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        jdbcTemplate.update(COMPLETE_SQL, record.status(), record.location(), record.body(), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_key WHERE idempotency_key = ?", key);
+    }
+
+    private void purgeExpired(LocalDateTime now, Timestamp expiredBefore) {
+        var scheduled = nextPurge.get();
+        if (now.isBefore(scheduled) || !nextPurge.compareAndSet(scheduled, now.plus(PURGE_INTERVAL))) return;
+
+        jdbcTemplate.update(DELETE_EXPIRED_SQL, expiredBefore);
+    }
+}
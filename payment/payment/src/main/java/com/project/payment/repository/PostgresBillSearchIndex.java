@@ -0,0 +1,23 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Usa o índice GIN {@code pg_trgm} sobre {@code lower(description)}: o {@code LIKE '%texto%'} é resolvido pelo
+ * índice e o resultado é ordenado por {@code similarity}.
+ */
+@RequiredArgsConstructor
+public class PostgresBillSearchIndex implements BillSearchIndex {
+
+    private final BillRepository repository;
+
+    @Override
+    public List<Bill> search(String text, int limit) {
+        var normalizedText = text.trim().toLowerCase(Locale.ROOT);
+        return repository.searchByDescription(BillSpecification.containsPattern(normalizedText), normalizedText, limit);
+    }
+}
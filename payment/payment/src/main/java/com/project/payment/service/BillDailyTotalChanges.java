@@ -0,0 +1,33 @@
+package com.project.payment.service;
+
+import com.project.payment.model.Bill;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Soma, por data de pagamento, o que uma importação acrescenta aos totais diários. As datas ficam ordenadas para
+ * que toda transação trave as linhas de {@code bill_daily_total} na mesma ordem.
+ */
+public final class BillDailyTotalChanges {
+
+    public record Change(BigDecimal amount, long count) {
+    }
+
+    private final TreeMap<LocalDate, Change> changes = new TreeMap<>();
+
+    public void add(Collection<Bill> bills) {
+        for (var bill : bills) {
+            if (bill.getPaymentDate() == null) continue;
+            changes.merge(bill.getPaymentDate(), new Change(bill.getAmount(), 1),
+                    (previous, added) -> new Change(previous.amount().add(added.amount()), previous.count() + added.count()));
+        }
+    }
+
+    void forEach(BiConsumer<LocalDate, Change> action) {
+        changes.forEach(action);
+    }
+}
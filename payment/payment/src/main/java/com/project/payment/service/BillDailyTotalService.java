@@ -0,0 +1,83 @@
+package com.project.payment.service;
+
+import com.project.payment.model.Bill;
+import com.project.payment.repository.BillDailyTotalMismatch;
+import com.project.payment.repository.BillDailyTotalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static java.math.BigDecimal.ZERO;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BillDailyTotalService {
+
+    private final BillDailyTotalRepository repository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addBills(Collection<Bill> bills) {
+        var changes = new BillDailyTotalChanges();
+        changes.add(bills);
+        apply(changes);
+    }
+
+    /**
+     * Um único UPDATE por data, em ordem de data. Chamado no fim da transação, para que as linhas dos totais fiquem
+     * travadas só até o commit, e não durante toda a importação.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(BillDailyTotalChanges changes) {
+        changes.forEach((paymentDate, change) -> repository.addToDailyTotal(paymentDate, change.amount(), change.count()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void replaceBill(LocalDate previousPaymentDate, BigDecimal previousAmount, Bill bill) {
+        var samePaymentDate = previousPaymentDate == null
+                ? bill.getPaymentDate() == null
+                : previousPaymentDate.equals(bill.getPaymentDate());
+        if (samePaymentDate && previousAmount.compareTo(bill.getAmount()) == 0) return;
+
+        if (samePaymentDate) {
+            if (bill.getPaymentDate() != null) {
+                repository.addToDailyTotal(bill.getPaymentDate(), bill.getAmount().subtract(previousAmount), 0);
+            }
+            return;
+        }
+
+        if (previousPaymentDate != null) {
+            repository.addToDailyTotal(previousPaymentDate, previousAmount.negate(), -1);
+        }
+        if (bill.getPaymentDate() != null) {
+            repository.addToDailyTotal(bill.getPaymentDate(), bill.getAmount(), 1);
+        }
+    }
+
+    public BigDecimal sumTotalAmountByPaymentDateBetween(LocalDate startDate, LocalDate endDate) {
+        return repository.sumTotalAmountByPaymentDateBetween(startDate, endDate)
+                .orElse(ZERO);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BillDailyTotalMismatch> verify() {
+        return repository.findMismatches();
+    }
+
+    @Transactional
+    public int rebuild() {
+        repository.lockBillTable();
+        repository.deleteAllDailyTotals();
+        var days = repository.insertDailyTotalsFromBills();
+
+        log.info("Totais diários reconstruídos: {} dias", days);
+        return days;
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.payment.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.payment.model.Bill;
+import com.project.payment.model.ExportFormat;
+import com.project.payment.repository.BillFilter;
+import com.project.payment.repository.BillRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+@RequiredArgsConstructor
+public class BillExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BillRepository repository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Escreve as contas do filtro conforme são lidas do banco. A transação somente leitura mantém o cursor aberto
+     * até a última linha; nada além do buffer de escrita fica em memória.
+     */
+    @Transactional(readOnly = true)
+    public void exportBills(BillFilter filter, ExportFormat format, OutputStream outputStream) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8), BUFFER_SIZE);
+
+        try (var bills = repository.streamBills(filter)) {
+            switch (format) {
+                case CSV -> writeCsv(bills, writer);
+                case NDJSON -> writeNdjson(bills, writer);
+            }
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Mesmo layout lido pela importação: vencimento, pagamento, valor, descrição e status, sem cabeçalho.
+     */
+    private void writeCsv(Stream<Bill> bills, Writer writer) {
+        var row = new StringBuilder(128);
+        bills.forEach(bill -> {
+            row.setLength(0);
+            row.append(bill.getDueDate()).append(',');
+            if (bill.getPaymentDate() != null) {
+                row.append(bill.getPaymentDate());
+            }
+            row.append(',').append(bill.getAmount().toPlainString()).append(',');
+            appendCsvText(row, bill.getDescription());
+            row.append(',').append(bill.getStatus().name()).append('\n');
+            write(writer, row);
+        });
+    }
+
+    private void writeNdjson(Stream<Bill> bills, Writer writer) throws IOException {
+        var billWriter = objectMapper.writerFor(Bill.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (var generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            bills.forEach(bill -> {
+                try {
+                    billWriter.writeValue(generator, bill);
+                    generator.writeRaw('\n');
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        }
+    }
+
+    private void appendCsvText(StringBuilder row, String text) {
+        if (text == null || text.isEmpty()) return;
+
+        var quote = Character.isWhitespace(text.charAt(0)) || Character.isWhitespace(text.charAt(text.length() - 1));
+        for (int index = 0; index < text.length() && !quote; index++) {
+            var character = text.charAt(index);
+            quote = character == ',' || character == '"' || character == '\n' || character == '\r';
+        }
+
+        if (!quote) {
+            row.append(text);
+            return;
+        }
+        row.append('"');
+        for (int index = 0; index < text.length(); index++) {
+            var character = text.charAt(index);
+            if (character == '"') row.append('"');
+            row.append(character);
+        }
+        row.append('"');
+    }
+
+    private void write(Writer writer, CharSequence text) {
+        try {
+            writer.append(text);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.payment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.YearMonth;
+
+/**
+ * Mantém criadas as partições mensais de {@code bill} dos próximos meses, para que novos vencimentos não caiam na
+ * partição padrão. A criação em si fica na função {@code create_bill_partition}, da migração V7.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "payment.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class BillPartitionService {
+
+    private static final String CREATE_PARTITION_SQL = "SELECT create_bill_partition(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final Clock clock;
+
+    public BillPartitionService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${payment.partitions.months-ahead:12}") int monthsAhead
+    ) {
+        this(jdbcTemplate, monthsAhead, Clock.systemDefaultZone());
+    }
+
+    BillPartitionService(JdbcTemplate jdbcTemplate, int monthsAhead, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${payment.partitions.cron:0 0 3 * * *}")
+    public void createFuturePartitions() {
+        var currentMonth = YearMonth.now(clock);
+
+        for (int offset = 0; offset <= monthsAhead; offset++) {
+            var month = currentMonth.plusMonths(offset);
+            try {
+                jdbcTemplate.query(CREATE_PARTITION_SQL, (RowCallbackHandler) resultSet -> {
+                }, Date.valueOf(month.atDay(1)));
+            } catch (DataAccessException exception) {
+                log.warn("Não foi possível criar a partição de {}", month, exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.payment.service;
+
+import com.project.payment.controller.dto.BillReportDTO;
+import com.project.payment.model.ReportDateField;
+import com.project.payment.model.ReportPeriod;
+import com.project.payment.repository.BillReportRepository;
+import com.project.payment.validator.BillValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class BillReportService {
+
+    private final BillReportRepository reportRepository;
+    private final BillValidator billValidator;
+
+    @Transactional(readOnly = true)
+    public BillReportDTO getReport(LocalDate startDate, LocalDate endDate, ReportPeriod groupBy, ReportDateField dateField, boolean byStatus) {
+        billValidator.validateSearchPeriodForSumOfBills(startDate, endDate);
+
+        var rows = reportRepository.aggregate(dateField, groupBy, byStatus, startDate, endDate);
+        return new BillReportDTO(groupBy, dateField, startDate, endDate, rows);
+    }
+}
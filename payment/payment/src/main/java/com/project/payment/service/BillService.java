@@ -1,85 +1,268 @@
 package com.project.payment.service;
 
+import com.project.payment.config.CacheConfiguration;
+import com.project.payment.config.ReadConsistency;
+import com.project.payment.controller.dto.BillSliceDTO;
+import com.project.payment.controller.dto.CsvImportResultDTO;
+import com.project.payment.controller.dto.PageDTO;
 import com.project.payment.controller.dto.SaveBillDTO;
 import com.project.payment.controller.dto.UpdateBillDTO;
+import com.project.payment.controller.dto.UpdateBillsStatusDTO;
+import com.project.payment.controller.dto.UpdateBillsStatusResultDTO;
+import com.project.payment.controller.dto.UpdateBillsStatusResultDTO.Outcome;
 import com.project.payment.controller.mapper.BillMapper;
+import com.project.payment.metrics.PaymentMetrics;
+import com.project.payment.metrics.PaymentMetrics.CsvStage;
 import com.project.payment.model.Bill;
+import com.project.payment.model.BillCursor;
+import com.project.payment.model.BillDetail;
+import com.project.payment.model.BillStatus;
+import com.project.payment.model.BillSummary;
+import com.project.payment.model.CsvCommitPolicy;
+import com.project.payment.model.CsvImportProgress;
+import com.project.payment.repository.BillBulkRepository;
+import com.project.payment.repository.BillFilter;
 import com.project.payment.repository.BillRepository;
+import com.project.payment.repository.BillSearchIndex;
 import com.project.payment.validator.BillValidator;
 import com.project.payment.validator.CsvFileValidator;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
-import org.springframework.data.domain.Page;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
-import static java.math.BigDecimal.ZERO;
-
+/**
+ * As consultas rodam em transações somente leitura (sem flush nem snapshots do Hibernate, e com a conexão marcada
+ * como somente leitura); as operações de escrita declaram a própria transação.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(value = "payment.bill.service", histogram = true, percentiles = {0.5, 0.95, 0.99})
 public class BillService {
 
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     private final BillRepository repository;
+    private final BillBulkRepository bulkRepository;
     private final BillValidator billValidator;
     private final CsvFileValidator csvFileValidator;
     private final BillMapper mapper;
+    private final BillDailyTotalService dailyTotalService;
+    private final BillSearchIndex searchIndex;
+    private final PaymentMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
 
+    @Value("${payment.csv.commit-policy:ALL}")
+    private CsvCommitPolicy commitPolicy;
+
+    @Transactional
     public Bill saveBill(SaveBillDTO saveBillDTO) {
         var bill = mapper.toBillEntity(saveBillDTO);
         billValidator.checkBillAlreadyRegistered(bill);
 
-        return repository.save(bill);
+        var savedBill = repository.save(bill);
+        dailyTotalService.addBills(List.of(savedBill));
+        searchIndex.index(List.of(savedBill));
+        return savedBill;
     }
 
-    public void updateBill(UUID billId, UpdateBillDTO updateBillDTO) {
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.BILLS_CACHE, key = "#billId")
+    public void updateBill(UUID billId, UpdateBillDTO updateBillDTO, Long expectedVersion) {
         var bill = billValidator.checkExistingBill(billId);
+        billValidator.checkBillVersion(bill, expectedVersion);
+        var previousPaymentDate = bill.getPaymentDate();
+        var previousAmount = bill.getAmount();
         mapper.updateBillFromDTO(updateBillDTO, bill);
         billValidator.checkBillAlreadyRegistered(bill);
 
-        repository.save(bill);
+        try {
+            repository.saveAndFlush(bill);
+        } catch (OptimisticLockingFailureException exception) {
+            throw billValidator.versionMismatch();
+        }
+        dailyTotalService.replaceBill(previousPaymentDate, previousAmount, bill);
+        searchIndex.index(List.of(bill));
     }
 
-    public void updateBillStatus(UUID billId, String status) {
-        var bill = billValidator.checkExistingBill(billId);
-        bill.setStatus(status);
+    /**
+     * Um único UPDATE condicionado ao id e, quando informada, à versão esperada. A conta só é lida novamente se
+     * nenhuma linha for alterada, para diferenciar conta inexistente de conflito de versão. O índice de busca não é
+     * avisado: ele guarda só a descrição e lê a linha atual a cada busca.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.BILLS_CACHE, key = "#billId")
+    public void updateBillStatus(UUID billId, BillStatus status, Long expectedVersion) {
+        var now = LocalDateTime.now();
+        var updatedRows = expectedVersion == null
+                ? repository.updateStatus(billId, status, now)
+                : repository.updateStatus(billId, status, expectedVersion, now);
 
-        repository.save(bill);
+        billValidator.checkBillUpdated(updatedRows, billId);
     }
 
-    public Page<Bill> findBills(LocalDate dueDate, String description, int pageNumber, int pageSize) {
-        var bill = Bill.builder()
-                .dueDate(dueDate)
-                .description(description)
-                .build();
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.BILLS_CACHE, allEntries = true)
+    public UpdateBillsStatusResultDTO updateBillsStatus(UpdateBillsStatusDTO updateBillsStatusDTO) {
+        billValidator.validateBillsStatusUpdate(updateBillsStatusDTO);
+        var status = updateBillsStatusDTO.status();
 
-        var matcher = ExampleMatcher
-                .matching()
-                .withIgnoreNullValues()
-                .withIgnoreCase()
-                .withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING);
+        if (updateBillsStatusDTO.hasIds()) {
+            var ids = new LinkedHashSet<>(updateBillsStatusDTO.ids());
+            var updatedIds = bulkRepository.updateStatusByIds(ids, status);
+            var results = ids.stream()
+                    .map(id -> new UpdateBillsStatusResultDTO.Result(id, updatedIds.contains(id) ? Outcome.UPDATED : Outcome.NOT_FOUND))
+                    .toList();
+            return UpdateBillsStatusResultDTO.of(status, results);
+        }
 
+        var updatedIds = bulkRepository.updateStatusWhere(
+                updateBillsStatusDTO.dueDateFrom(),
+                updateBillsStatusDTO.dueDateTo(),
+                updateBillsStatusDTO.currentStatus(),
+                status
+        );
+        var results = updatedIds.stream()
+                .map(id -> new UpdateBillsStatusResultDTO.Result(id, Outcome.UPDATED))
+                .toList();
+        return UpdateBillsStatusResultDTO.of(status, results);
+    }
+
+    public PageDTO<BillSummary> findBills(BillFilter filter, int pageNumber, int pageSize) {
         var pageable = PageRequest.of(pageNumber, pageSize);
 
-        return repository.findAll(Example.of(bill, matcher), pageable);
+        return PageDTO.of(repository.findSummaries(filter, pageable));
+    }
+
+    public BillSliceDTO findBillsAfter(BillFilter filter, String after, int pageSize) {
+        var cursor = after == null ? null : BillCursor.decode(after);
+
+        var content = repository.findSummariesAfter(filter, cursor, pageSize + 1);
+        var hasNext = content.size() > pageSize;
+        if (hasNext) {
+            content = content.subList(0, pageSize);
+        }
+
+        var next = hasNext ? BillCursor.of(content.getLast()).encode() : null;
+        return new BillSliceDTO(content, content.size(), hasNext, next);
+    }
+
+    public List<BillSummary> searchBills(String description, int limit) {
+        if (description == null || description.isBlank()) return List.of();
+
+        return searchIndex.search(description, Math.clamp(limit, 1, MAX_SEARCH_LIMIT)).stream()
+                .map(BillSummary::of)
+                .toList();
     }
 
-    public Bill findBillById(UUID billId) {
-        return billValidator.checkExistingBill(billId);
+    /**
+     * Lida no primário: o resultado fica no cache até a próxima alteração ou o fim do TTL, e uma réplica atrasada
+     * logo depois de uma escrita colocaria no cache a versão anterior.
+     */
+    @Cacheable(cacheNames = CacheConfiguration.BILLS_CACHE, key = "#billId")
+    public BillDetail findBillById(UUID billId) {
+        return ReadConsistency.withPrimary(() -> billValidator.checkExistingBillDetail(billId));
     }
 
     public BigDecimal sumBillAmountByPaymentDateBetween(LocalDate startDate, LocalDate endDate) {
         billValidator.validateSearchPeriodForSumOfBills(startDate, endDate);
-        return repository.sumBillAmountByPaymentDateBetween(startDate, endDate)
-                .orElse(ZERO);
+        return dailyTotalService.sumTotalAmountByPaymentDateBetween(startDate, endDate);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CsvImportResultDTO saveCsvBills(String csvBase64) {
+        return importCsv(chunkConsumer -> csvFileValidator.processCsvBase64(csvBase64, chunkConsumer), CsvImportProgress.NONE);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CsvImportResultDTO saveCsvBills(InputStream csvFile) {
+        return saveCsvBills(csvFile, CsvImportProgress.NONE);
+    }
+
+    /**
+     * Com {@link CsvCommitPolicy#ALL} o arquivo é lido dentro da transação, então {@code csvFile} deve ser local
+     * (arquivo temporário ou memória), nunca o corpo de uma requisição ainda em recebimento.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CsvImportResultDTO saveCsvBills(InputStream csvFile, CsvImportProgress progress) {
+        return importCsv(chunkConsumer -> csvFileValidator.processCsvStream(csvFile, chunkConsumer, progress), progress);
+    }
+
+    /**
+     * As transações da importação seguem {@code payment.csv.commit-policy} ({@link CsvCommitPolicy}).
+     */
+    private CsvImportResultDTO importCsv(Consumer<Consumer<List<Bill>>> csvReader, CsvImportProgress progress) {
+        var startTime = System.nanoTime();
+        var rows = new AtomicLong();
+
+        if (commitPolicy == CsvCommitPolicy.CHUNK) {
+            try {
+                csvReader.accept(bills -> {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        persistCsvBills(bills);
+                        dailyTotalService.addBills(bills);
+                    });
+                    rows.addAndGet(bills.size());
+                    progress.rowsPersisted(bills.size());
+                });
+            } catch (RuntimeException exception) {
+                log.warn("Importação CSV interrompida: {} linhas já confirmadas permanecem gravadas", rows.get());
+                throw exception;
+            }
+        } else {
+            try {
+                // Os totais diários são somados ao longo do arquivo e gravados de uma vez antes do commit.
+                transactionTemplate.executeWithoutResult(status -> {
+                    var dailyTotals = new BillDailyTotalChanges();
+                    csvReader.accept(bills -> {
+                        persistCsvBills(bills);
+                        dailyTotals.add(bills);
+                        rows.addAndGet(bills.size());
+                        progress.rowsPersisted(bills.size());
+                    });
+                    dailyTotalService.apply(dailyTotals);
+                });
+            } catch (RuntimeException exception) {
+                progress.rowsRolledBack(rows.get());
+                throw exception;
+            }
+        }
+
+        return csvImportResult(rows.get(), startTime);
+    }
+
+    private void persistCsvBills(List<Bill> bills) {
+        var startTime = System.nanoTime();
+        bulkRepository.insertAll(bills);
+        searchIndex.index(bills);
+        metrics.recordCsvStage(CsvStage.PERSIST, System.nanoTime() - startTime);
     }
 
-    public void saveCsvBills(String csvBase64) {
-       var bills = csvFileValidator.processCsvBase64(csvBase64);
-        repository.saveAll(bills);
+    private CsvImportResultDTO csvImportResult(long rows, long startTime) {
+        var result = CsvImportResultDTO.of(rows, System.nanoTime() - startTime, bulkRepository.getInsertMode().name());
+        metrics.csvImportCompleted(result.rows(), result.rowsPerSecond());
+        log.info("Importação CSV concluída: {} linhas em {} ms ({} linhas/s, modo {})",
+                result.rows(), result.elapsedMillis(), result.rowsPerSecond(), result.insertMode());
+        return result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.project.payment.service;
+
+import com.project.payment.exception.AlreadyRegisteredBillException;
+import com.project.payment.exception.CsvImportJobLimitException;
+import com.project.payment.exception.CsvImportJobNotFoundException;
+import com.project.payment.model.CsvImportJob;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class CsvImportJobService {
+
+    private final BillService billService;
+    private final Semaphore runningJobs;
+    private final int maxPendingJobs;
+    private final Duration retention;
+    private final AtomicInteger pendingJobs = new AtomicInteger();
+    private final Map<UUID, CsvImportJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CsvImportJobService(
+            BillService billService,
+            @Value("${payment.csv.jobs.max-concurrent:2}") int maxConcurrentJobs,
+            @Value("${payment.csv.jobs.max-pending:20}") int maxPendingJobs,
+            @Value("${payment.csv.jobs.retention:PT1H}") Duration retention
+    ) {
+        this.billService = billService;
+        this.runningJobs = new Semaphore(maxConcurrentJobs, true);
+        this.maxPendingJobs = maxPendingJobs;
+        this.retention = retention;
+    }
+
+    @FunctionalInterface
+    private interface CsvFileWriter {
+        void writeTo(Path file) throws IOException;
+    }
+
+    public CsvImportJob submit(InputStream csvFile) throws IOException {
+        return submit(file -> Files.copy(csvFile, file, StandardCopyOption.REPLACE_EXISTING));
+    }
+
+    /**
+     * Importa um arquivo já gravado em disco, sem copiá-lo: o arquivo é movido para a importação e removido ao final.
+     */
+    public CsvImportJob submit(Path csvFile) throws IOException {
+        return submit(file -> Files.move(csvFile, file, StandardCopyOption.REPLACE_EXISTING));
+    }
+
+    private CsvImportJob submit(CsvFileWriter writer) throws IOException {
+        removeExpiredJobs();
+
+        if (pendingJobs.incrementAndGet() > maxPendingJobs) {
+            pendingJobs.decrementAndGet();
+            throw new CsvImportJobLimitException("Limite de importações em andamento atingido. Tente novamente mais tarde.");
+        }
+
+        Path file = null;
+        try {
+            file = Files.createTempFile("bill-import-", ".csv");
+            writer.writeTo(file);
+
+            var job = new CsvImportJob();
+            var jobFile = file;
+            jobs.put(job.getId(), job);
+            executor.submit(() -> run(job, jobFile));
+            return job;
+        } catch (IOException | RuntimeException exception) {
+            pendingJobs.decrementAndGet();
+            if (file != null) {
+                deleteFile(file);
+            }
+            throw exception;
+        }
+    }
+
+    public CsvImportJob findJob(UUID jobId) {
+        var job = jobs.get(jobId);
+        if (job == null) {
+            throw new CsvImportJobNotFoundException("Importação não encontrada.");
+        }
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(CsvImportJob job, Path file) {
+        try {
+            runningJobs.acquire();
+            try (var csvFile = Files.newInputStream(file)) {
+                job.start();
+                billService.saveCsvBills(csvFile, job);
+                job.complete();
+            } finally {
+                runningJobs.release();
+            }
+        } catch (AlreadyRegisteredBillException | IllegalArgumentException exception) {
+            job.fail(exception.getMessage());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            job.fail("Importação interrompida.");
+        } catch (Exception exception) {
+            log.error("Falha na importação CSV {}", job.getId(), exception);
+            job.fail("Erro inesperado ao importar o arquivo.");
+        } finally {
+            pendingJobs.decrementAndGet();
+            deleteFile(file);
+        }
+    }
+
+    private void removeExpiredJobs() {
+        var limit = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(limit));
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            log.warn("Não foi possível remover o arquivo temporário {}", file, exception);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.project.payment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.payment.exception.IdempotencyKeyInProgressException;
+import com.project.payment.exception.InvalidIdempotencyKeyException;
+import com.project.payment.metrics.PaymentMetrics;
+import com.project.payment.model.IdempotencyRecord;
+import com.project.payment.repository.IdempotencyStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @FunctionalInterface
+    public interface IdempotentAction {
+        ResponseEntity<Object> execute() throws IOException;
+    }
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final PaymentMetrics metrics;
+
+    /**
+     * Executa a ação uma única vez por chave. Respostas de sucesso são guardadas e devolvidas nas repetições sem
+     * executar a ação novamente; respostas de erro liberam a chave para uma nova tentativa.
+     */
+    public ResponseEntity<Object> execute(String key, String fingerprint, IdempotentAction action) throws IOException {
+        if (key == null || key.isBlank()) return action.execute();
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException("A Idempotency-Key deve ter no máximo " + MAX_KEY_LENGTH + " caracteres.");
+        }
+
+        var existing = store.claim(key, fingerprint);
+        if (existing.isPresent()) {
+            return replay(existing.get(), fingerprint);
+        }
+
+        try {
+            var response = action.execute();
+            if (response.getStatusCode().is2xxSuccessful()) {
+                store.complete(key, toRecord(fingerprint, response));
+            } else {
+                store.release(key);
+            }
+            return response;
+        } catch (IOException | RuntimeException exception) {
+            store.release(key);
+            throw exception;
+        }
+    }
+
+    public static String fingerprint(String... parts) {
+        return HexFormat.of().formatHex(digest(parts).digest());
+    }
+
+    /**
+     * Inclui o conteúdo na impressão digital, lendo-o até o fim.
+     */
+    public static String fingerprint(InputStream content, String... parts) throws IOException {
+        return copyAndFingerprint(content, OutputStream.nullOutputStream(), parts);
+    }
+
+    /**
+     * Grava o conteúdo em {@code target} e calcula a impressão digital na mesma leitura, para corpos que só podem ser
+     * lidos uma vez.
+     */
+    public static String copyAndFingerprint(InputStream content, OutputStream target, String... parts) throws IOException {
+        var digest = digest(parts);
+        try (var digestStream = new DigestInputStream(content, digest)) {
+            digestStream.transferTo(target);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest digest(String... parts) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            for (var part : parts) {
+                digest.update(String.valueOf(part).getBytes(UTF_8));
+                digest.update((byte) 0);
+            }
+            return digest;
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private ResponseEntity<Object> replay(IdempotencyRecord record, String fingerprint) {
+        if (!record.fingerprint().equals(fingerprint)) {
+            throw new InvalidIdempotencyKeyException("A Idempotency-Key já foi usada em uma requisição diferente.");
+        }
+        if (!record.isCompleted()) {
+            throw new IdempotencyKeyInProgressException("Uma requisição com esta Idempotency-Key ainda está em processamento.");
+        }
+
+        metrics.idempotentReplay();
+        var response = ResponseEntity.status(record.status()).header(IDEMPOTENT_REPLAYED_HEADER, "true");
+        if (record.location() != null) {
+            response.location(URI.create(record.location()));
+        }
+        if (record.body() == null) {
+            return response.build();
+        }
+        return response.contentType(MediaType.APPLICATION_JSON).body(record.body());
+    }
+
+    private IdempotencyRecord toRecord(String fingerprint, ResponseEntity<Object> response) {
+        var location = response.getHeaders().getLocation();
+        try {
+            var body = response.getBody() == null ? null : objectMapper.writeValueAsString(response.getBody());
+            return new IdempotencyRecord(fingerprint, response.getStatusCode().value(), location == null ? null : location.toString(), body);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -1,37 +1,101 @@
 package com.project.payment.validator;
 
+import com.project.payment.controller.dto.UpdateBillsStatusDTO;
 import com.project.payment.exception.AlreadyRegisteredBillException;
 import com.project.payment.exception.BillNotFoundException;
+import com.project.payment.exception.BillVersionMismatchException;
 import com.project.payment.exception.InvalidPeriodException;
+import com.project.payment.exception.InvalidStatusUpdateException;
+import com.project.payment.metrics.PaymentMetrics;
 import com.project.payment.model.Bill;
+import com.project.payment.model.BillDetail;
+import com.project.payment.model.BillKey;
 import com.project.payment.repository.BillRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
+import static java.util.stream.Collectors.toSet;
+
 @Component
 @RequiredArgsConstructor
 public class BillValidator {
 
     private final BillRepository repository;
+    private final PaymentMetrics metrics;
 
+    /**
+     * Para uma conta já cadastrada a própria conta é desconsiderada: na atualização ela já está alterada no
+     * contexto de persistência, e o flush automático antes da consulta faria com que fosse encontrada.
+     */
     public void checkBillAlreadyRegistered(Bill bill) {
-        var isBillRegistered = repository.findByDueDateAndAmountAndStatus(
-                bill.getDueDate(), bill.getAmount(), bill.getStatus()
-        ).isPresent();
+        var isBillRegistered = bill.getId() == null
+                ? repository.findByDueDateAndAmountAndStatus(bill.getDueDate(), bill.getAmount(), bill.getStatus()).isPresent()
+                : repository.existsByDueDateAndAmountAndStatusAndIdNot(bill.getDueDate(), bill.getAmount(), bill.getStatus(), bill.getId());
 
         if (isBillRegistered) {
+            metrics.billConflict();
             var messageError = String.format(Locale.US, "A conta com a data de vencimento %s, valor %.2f e status '%s' já foi cadastrada!", bill.getDueDate(), bill.getAmount(), bill.getStatus());
             throw new AlreadyRegisteredBillException(messageError);
         }
     }
 
+    public void checkBillsAlreadyRegistered(Map<Integer, Bill> billsByLine) {
+        if (billsByLine.isEmpty()) return;
+
+        var keys = billsByLine.values().stream().map(BillKey::of).collect(toSet());
+        var registeredKeys = new HashSet<>(repository.findBillKeys(keys));
+
+        for (var entry : billsByLine.entrySet()) {
+            var bill = entry.getValue();
+            if (registeredKeys.contains(BillKey.of(bill))) {
+                metrics.billConflict();
+                var messageError = String.format(Locale.US, "A linha %d contém a conta com a data de vencimento %s, valor %.2f e status '%s' que já foi cadastrada!", entry.getKey(), bill.getDueDate(), bill.getAmount(), bill.getStatus());
+                throw new AlreadyRegisteredBillException(messageError);
+            }
+        }
+    }
+
     public Bill checkExistingBill(UUID billId) {
-        return repository.findById(billId)
-                .orElseThrow(() -> new BillNotFoundException("Conta não encontrada."));
+        return repository.findById(billId).orElseThrow(this::billNotFound);
+    }
+
+    public BillDetail checkExistingBillDetail(UUID billId) {
+        return repository.findDetailById(billId).orElseThrow(this::billNotFound);
+    }
+
+    public void checkBillVersion(Bill bill, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(bill.getVersion())) {
+            throw versionMismatch();
+        }
+    }
+
+    /**
+     * Chamado quando um UPDATE condicional não alterou nenhuma linha: diferencia conta inexistente de conta
+     * alterada por outra requisição.
+     */
+    public void checkBillUpdated(int updatedRows, UUID billId) {
+        if (updatedRows > 0) return;
+
+        if (!repository.existsById(billId)) {
+            throw billNotFound();
+        }
+        throw versionMismatch();
+    }
+
+    public BillNotFoundException billNotFound() {
+        metrics.billNotFound();
+        return new BillNotFoundException("Conta não encontrada.");
+    }
+
+    public BillVersionMismatchException versionMismatch() {
+        metrics.billConflict();
+        return new BillVersionMismatchException("A conta foi alterada por outra requisição. Busque a versão atual e tente novamente.");
     }
 
     public void validateSearchPeriodForSumOfBills(LocalDate startDate, LocalDate endDate) {
@@ -39,4 +103,16 @@ public class BillValidator {
             throw new InvalidPeriodException("A data inicial deve ser menor do que a data final.");
         }
     }
+
+    public void validateBillsStatusUpdate(UpdateBillsStatusDTO updateBillsStatusDTO) {
+        if (updateBillsStatusDTO.hasIds() == updateBillsStatusDTO.hasFilter()) {
+            throw new InvalidStatusUpdateException("Informe os ids das contas ou um filtro (dueDateFrom, dueDateTo ou currentStatus), mas não ambos.");
+        }
+
+        var dueDateFrom = updateBillsStatusDTO.dueDateFrom();
+        var dueDateTo = updateBillsStatusDTO.dueDateTo();
+        if (dueDateFrom != null && dueDateTo != null) {
+            validateSearchPeriodForSumOfBills(dueDateFrom, dueDateTo);
+        }
+    }
 }
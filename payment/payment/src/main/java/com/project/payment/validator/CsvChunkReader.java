@@ -0,0 +1,122 @@
+package com.project.payment.validator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Divide o CSV em blocos de registros completos, respeitando campos entre aspas que contêm vírgulas ou quebras
+ * de linha, para que cada bloco possa ser interpretado por um {@link CsvRecordParser} independente.
+ */
+final class CsvChunkReader {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    record CsvChunk(char[] data, int firstLineNumber) {
+    }
+
+    private final Reader reader;
+    private final int recordsPerChunk;
+    private char[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+    private boolean skipLineFeed;
+    private int nextLineNumber = 1;
+
+    CsvChunkReader(Reader reader, int recordsPerChunk) {
+        this(reader, recordsPerChunk, DEFAULT_BUFFER_SIZE);
+    }
+
+    CsvChunkReader(Reader reader, int recordsPerChunk, int bufferSize) {
+        this.reader = reader;
+        this.recordsPerChunk = recordsPerChunk;
+        this.buffer = new char[bufferSize];
+    }
+
+    CsvChunk next() throws IOException {
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if ((position < limit || fill()) && buffer[position] == '\n') position++;
+        }
+
+        var index = position;
+        var records = 0;
+        var lines = 0;
+        var inQuotes = false;
+        var fieldStart = true;
+        var afterQuote = false;
+        var previousCarriageReturn = false;
+
+        while (true) {
+            if (index == limit) {
+                var previousPosition = position;
+                var filled = fill();
+                index -= previousPosition - position;
+                if (!filled) break;
+            }
+
+            var character = buffer[index++];
+            if (character == '\n' && !previousCarriageReturn || character == '\r') lines++;
+            previousCarriageReturn = character == '\r';
+
+            if (inQuotes) {
+                if (character == '"') {
+                    inQuotes = false;
+                    afterQuote = true;
+                }
+                continue;
+            }
+
+            if (character == '"' && (fieldStart || afterQuote)) {
+                inQuotes = true;
+                fieldStart = false;
+                afterQuote = false;
+            } else if (character == ',') {
+                fieldStart = true;
+                afterQuote = false;
+            } else if (character == '\n' || character == '\r') {
+                fieldStart = true;
+                afterQuote = false;
+                if (++records == recordsPerChunk) {
+                    skipLineFeed = character == '\r';
+                    break;
+                }
+            } else if (character > ' ') {
+                fieldStart = false;
+                afterQuote = false;
+            } else {
+                afterQuote = false;
+            }
+        }
+
+        if (index == position) return null;
+
+        var chunk = new CsvChunk(Arrays.copyOfRange(buffer, position, index), nextLineNumber);
+        nextLineNumber += lines;
+        position = index;
+        return chunk;
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfInput) return false;
+
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        var read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        limit += read;
+        return read > 0 || fill();
+    }
+}
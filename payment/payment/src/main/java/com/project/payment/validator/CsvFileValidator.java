@@ -1,84 +1,273 @@
 package com.project.payment.validator;
 
+import com.project.payment.exception.AlreadyRegisteredBillException;
+import com.project.payment.metrics.PaymentMetrics;
+import com.project.payment.metrics.PaymentMetrics.CsvStage;
 import com.project.payment.model.Bill;
-import lombok.RequiredArgsConstructor;
+import com.project.payment.model.BillKey;
+import com.project.payment.model.BillStatus;
+import com.project.payment.model.CsvImportProgress;
+import com.project.payment.repository.CsvImportKeyRepository;
+import com.project.payment.validator.CsvChunkReader.CsvChunk;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 
 import static com.project.payment.constants.AppConstants.CsvFileConstants.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @Component
-@RequiredArgsConstructor
 public class CsvFileValidator {
 
     private final BillValidator billValidator;
+    private final CsvImportKeyRepository importKeyRepository;
+    private final PaymentMetrics metrics;
+    private final int chunkSize;
+    private final int maxPendingChunks;
+    private final ForkJoinPool parsingPool;
+
+    public CsvFileValidator(
+            BillValidator billValidator,
+            CsvImportKeyRepository importKeyRepository,
+            PaymentMetrics metrics,
+            @Value("${payment.csv.chunk-size:1000}") int chunkSize,
+            @Value("${payment.csv.parallelism:0}") int parallelism
+    ) {
+        this.billValidator = billValidator;
+        this.importKeyRepository = importKeyRepository;
+        this.metrics = metrics;
+        this.chunkSize = chunkSize;
+
+        var threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.maxPendingChunks = threads * 2;
+        this.parsingPool = threads > 1 ? new ForkJoinPool(threads) : null;
+    }
 
     public List<Bill> processCsvBase64(String base64) {
-        var decodedFile = Base64.getDecoder().decode(base64);
-        var decodedCsv = new String(decodedFile);
-        var lines = splitCsvFileInLines(decodedCsv);
         var bills = new ArrayList<Bill>();
+        processCsvBase64(base64, bills::addAll);
+        return bills;
+    }
 
-        generateBills(lines, bills);
+    public void processCsvBase64(String base64, Consumer<List<Bill>> chunkConsumer) {
+        var startTime = System.nanoTime();
+        var decodedFile = Base64.getDecoder().decode(base64);
+        metrics.recordCsvStage(CsvStage.DECODE, System.nanoTime() - startTime);
 
-        return bills;
+        processCsvStream(new ByteArrayInputStream(decodedFile), chunkConsumer, CsvImportProgress.NONE);
     }
 
-    private void generateBills(String[] lines, ArrayList<Bill> bills) {
-        for (int i = 0; i < lines.length; i++) {
-            var line = lines[i];
-            var billLine = line.split(",");
-            if (billLine.length < COLUMNS_NUMBER) continue;
+    public void processCsvStream(InputStream inputStream, Consumer<List<Bill>> chunkConsumer, CsvImportProgress progress) {
+        try (var reader = new InputStreamReader(inputStream, UTF_8)) {
+            generateBills(new CsvChunkReader(reader, chunkSize), chunkConsumer, progress);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Não foi possível ler o arquivo CSV.", exception);
+        }
+    }
 
-            var bill = createBillEntity(billLine, i + 1);
-            billValidator.checkBillAlreadyRegistered(bill);
-            bills.add(bill);
+    @PreDestroy
+    public void shutdown() {
+        if (parsingPool != null) {
+            parsingPool.shutdownNow();
         }
     }
 
-    private Bill createBillEntity(String[] column, int lineNumber) {
-        return Bill.builder()
-                .dueDate(validateDate(column[DUE_DATE_COLUMN], DUE_DATE, lineNumber))
-                .paymentDate(validateDate(column[PAYMENT_DATE_COLUMN], PAYMENT, lineNumber))
-                .amount(validateAmount(column[AMOUNT_COLUMN], lineNumber))
-                .description(column[DESCRIPTION_COLUMN].trim())
-                .status(validateStatus(column[STATUS_COLUMN], lineNumber))
-                .build();
+    /**
+     * Os blocos são interpretados em paralelo, mas consumidos na ordem do arquivo: a verificação de linhas
+     * repetidas e a consulta ao banco continuam sequenciais, e o primeiro erro reportado é o da primeira linha
+     * inválida, como na leitura linha a linha.
+     * <p>
+     * Linhas repetidas dentro do bloco em andamento são achadas em memória; as repetidas de blocos anteriores, pelas
+     * chaves gravadas em {@code csv_import_key}. Assim a memória não cresce com o tamanho do arquivo.
+     */
+    private void generateBills(CsvChunkReader chunkReader, Consumer<List<Bill>> chunkConsumer, CsvImportProgress progress) throws IOException {
+        var importId = UUID.randomUUID();
+        var chunkLines = new HashMap<BillKey, Integer>();
+        var billsByLine = new LinkedHashMap<Integer, Bill>();
+        var pendingChunks = new ArrayDeque<ForkJoinTask<ParsedChunk>>();
+
+        try {
+            var chunk = nextChunk(chunkReader);
+            while (chunk != null || !pendingChunks.isEmpty()) {
+                while (chunk != null && pendingChunks.size() < maxPendingChunks) {
+                    pendingChunks.add(submit(chunk));
+                    chunk = nextChunk(chunkReader);
+                }
+
+                var parsedChunk = pendingChunks.remove().join();
+                for (int index = 0; index < parsedChunk.bills().size(); index++) {
+                    var bill = parsedChunk.bills().get(index);
+                    var lineNumber = parsedChunk.lineNumbers()[index];
+                    var previousLine = chunkLines.putIfAbsent(BillKey.of(bill), lineNumber);
+                    if (previousLine != null) {
+                        checkChunk(importId, billsByLine);
+                        throw billRepeatedInFile(bill, lineNumber, previousLine);
+                    }
+                    billsByLine.put(lineNumber, bill);
+
+                    if (billsByLine.size() >= chunkSize) {
+                        acceptChunk(importId, billsByLine, chunkConsumer, progress);
+                        billsByLine = new LinkedHashMap<>();
+                        chunkLines.clear();
+                    }
+                }
+
+                if (parsedChunk.error() != null) {
+                    checkChunk(importId, billsByLine);
+                    throw parsedChunk.error();
+                }
+            }
+
+            if (!billsByLine.isEmpty()) {
+                acceptChunk(importId, billsByLine, chunkConsumer, progress);
+            }
+        } finally {
+            pendingChunks.forEach(task -> task.cancel(true));
+            importKeyRepository.deleteKeys(importId);
+        }
     }
 
-    private LocalDate validateDate(String value, String columnName, int lineNumber) {
+    private CsvChunk nextChunk(CsvChunkReader chunkReader) throws IOException {
+        var startTime = System.nanoTime();
         try {
-            return LocalDate.parse(value.trim());
-        } catch (Exception exception) {
-            throw new IllegalArgumentException("A linha " + lineNumber + " coluna " + columnName + " possui formato inválido.");
+            return chunkReader.next();
+        } finally {
+            metrics.recordCsvStage(CsvStage.SPLIT, System.nanoTime() - startTime);
+        }
+    }
+
+    private ForkJoinTask<ParsedChunk> submit(CsvChunk chunk) {
+        var task = ForkJoinTask.adapt(() -> parseChunk(chunk));
+        if (parsingPool == null) {
+            task.invoke();
+        } else {
+            parsingPool.execute(task);
         }
+        return task;
     }
 
-    private BigDecimal validateAmount(String value, int lineNumber) {
+    private ParsedChunk parseChunk(CsvChunk chunk) {
+        var startTime = System.nanoTime();
+        var parser = new CsvRecordParser(chunk.data(), chunk.firstLineNumber());
+        var bills = new ArrayList<Bill>(chunkSize);
+        var lineNumbers = new int[chunkSize];
+
         try {
-            return new BigDecimal(value.trim());
-        } catch (Exception exception) {
-            throw new IllegalArgumentException("A linha " + lineNumber + " coluna " + AMOUNT + " possui formato inválido.");
+            while (parser.nextRecord()) {
+                if (parser.fieldCount() < COLUMNS_NUMBER) continue;
+
+                if (bills.size() == lineNumbers.length) {
+                    lineNumbers = Arrays.copyOf(lineNumbers, lineNumbers.length * 2);
+                }
+                lineNumbers[bills.size()] = parser.lineNumber();
+                bills.add(createBillEntity(parser, parser.lineNumber()));
+            }
+            return new ParsedChunk(bills, lineNumbers, null);
+        } catch (RuntimeException exception) {
+            return new ParsedChunk(bills, lineNumbers, exception);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Não foi possível ler o arquivo CSV.", exception);
+        } finally {
+            metrics.recordCsvStage(CsvStage.PARSE, System.nanoTime() - startTime);
+        }
+    }
+
+    private void acceptChunk(UUID importId, Map<Integer, Bill> billsByLine, Consumer<List<Bill>> chunkConsumer, CsvImportProgress progress) {
+        progress.rowsParsed(billsByLine.size());
+        checkChunk(importId, billsByLine);
+        progress.rowsValidated(billsByLine.size());
+        chunkConsumer.accept(new ArrayList<>(billsByLine.values()));
+    }
+
+    /**
+     * Procura primeiro linhas que repetem blocos anteriores e depois contas já cadastradas. Se houver repetição, as
+     * linhas anteriores a ela ainda são conferidas no banco, para que o erro reportado seja o da primeira linha inválida.
+     */
+    private void checkChunk(UUID importId, Map<Integer, Bill> billsByLine) {
+        var startTime = System.nanoTime();
+        try {
+            var repeated = importKeyRepository.registerKeys(importId, billsByLine);
+            if (repeated.isEmpty()) {
+                billValidator.checkBillsAlreadyRegistered(billsByLine);
+                return;
+            }
+
+            var lineNumber = repeated.get().lineNumber();
+            var linesBefore = new LinkedHashMap<Integer, Bill>();
+            billsByLine.forEach((line, bill) -> {
+                if (line < lineNumber) linesBefore.put(line, bill);
+            });
+            billValidator.checkBillsAlreadyRegistered(linesBefore);
+            throw billRepeatedInFile(billsByLine.get(lineNumber), lineNumber, repeated.get().previousLineNumber());
+        } finally {
+            metrics.recordCsvStage(CsvStage.DUPLICATE_CHECK, System.nanoTime() - startTime);
         }
     }
 
-    private String validateStatus(String value, int lineNumber) {
-        var status = value.trim().toUpperCase();
-        var allowedStatus = List.of("PAGO", "PENDENTE", "ATRASADO");
+    private AlreadyRegisteredBillException billRepeatedInFile(Bill bill, int lineNumber, int previousLine) {
+        metrics.billConflict();
+        var messageError = String.format(Locale.US, "A linha %d repete a conta com a data de vencimento %s, valor %.2f e status '%s' da linha %d.", lineNumber, bill.getDueDate(), bill.getAmount(), bill.getStatus(), previousLine);
+        return new AlreadyRegisteredBillException(messageError);
+    }
+
+    /**
+     * Preenchida por setters em vez do builder, que criaria um objeto a mais por linha.
+     */
+    private Bill createBillEntity(CsvRecordParser parser, int lineNumber) {
+        var bill = new Bill();
+        bill.setDueDate(validateDate(parser, DUE_DATE_COLUMN, DUE_DATE, lineNumber));
+        bill.setPaymentDate(validateDate(parser, PAYMENT_DATE_COLUMN, PAYMENT, lineNumber));
+        bill.setAmount(validateAmount(parser, lineNumber));
+        bill.setDescription(parser.text(DESCRIPTION_COLUMN));
+        bill.setStatus(validateStatus(parser, lineNumber));
+        return bill;
+    }
+
+    private LocalDate validateDate(CsvRecordParser parser, int column, String columnName, int lineNumber) {
+        var date = parser.date(column);
+        if (date == null) {
+            throw new IllegalArgumentException("A linha " + lineNumber + " coluna " + columnName + " possui formato inválido.");
+        }
+        return date;
+    }
 
-        if (!allowedStatus.contains(status)) {
-            throw new IllegalArgumentException("A linha " + lineNumber + " coluna " + STATUS + " possui valor inválido: " + value);
+    private BigDecimal validateAmount(CsvRecordParser parser, int lineNumber) {
+        var amount = parser.decimal(AMOUNT_COLUMN);
+        if (amount == null) {
+            throw new IllegalArgumentException("A linha " + lineNumber + " coluna " + AMOUNT + " possui formato inválido.");
         }
+        return amount;
+    }
 
+    private BillStatus validateStatus(CsvRecordParser parser, int lineNumber) {
+        var status = parser.status(STATUS_COLUMN);
+        if (status == null) {
+            throw new IllegalArgumentException("A linha " + lineNumber + " coluna " + STATUS + " possui valor inválido: " + parser.text(STATUS_COLUMN));
+        }
         return status;
     }
 
-    private String[] splitCsvFileInLines(String decodedCsv) {
-        return decodedCsv.split("\\r?\\n");
+    private record ParsedChunk(List<Bill> bills, int[] lineNumbers, RuntimeException error) {
     }
-}
\ No newline at end of file
+}
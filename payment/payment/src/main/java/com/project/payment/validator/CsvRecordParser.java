@@ -0,0 +1,290 @@
+package com.project.payment.validator;
+
+import com.project.payment.model.BillStatus;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static com.project.payment.constants.AppConstants.CsvFileConstants.COLUMNS_NUMBER;
+
+/**
+ * Leitor de CSV (RFC 4180) que percorre a entrada uma única vez sobre um buffer de caracteres reaproveitado.
+ * Os campos de cada registro ficam referenciados por posições no buffer, e datas, valores e status são
+ * convertidos direto dessas posições, sem criar uma String por linha ou por coluna.
+ */
+final class CsvRecordParser {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_FAST_DECIMAL_DIGITS = 18;
+    private static final int DATE_CACHE_SIZE = 64;
+
+    private final Reader reader;
+    private final int[] starts = new int[COLUMNS_NUMBER];
+    private final int[] ends = new int[COLUMNS_NUMBER];
+    private final LocalDate[] dateCache = new LocalDate[DATE_CACHE_SIZE];
+    private char[] buffer;
+    private int limit;
+    private boolean endOfInput;
+
+    private int readIndex;
+    private int writeIndex;
+    private int recordStart;
+    private int fieldStart;
+
+    private int nextLineNumber = 1;
+    private int recordLineNumber;
+    private int fieldCount;
+    private int lastNonEmptyField;
+
+    CsvRecordParser(Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    CsvRecordParser(Reader reader, int bufferSize) {
+        this.reader = reader;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * Interpreta um bloco já carregado em memória. O conteúdo de {@code data} é alterado durante a leitura.
+     */
+    CsvRecordParser(char[] data, int firstLineNumber) {
+        this.reader = null;
+        this.buffer = data;
+        this.limit = data.length;
+        this.endOfInput = true;
+        this.nextLineNumber = firstLineNumber;
+    }
+
+    boolean nextRecord() throws IOException {
+        recordStart = readIndex;
+        if (peek() < 0) return false;
+
+        recordLineNumber = nextLineNumber;
+        fieldCount = 0;
+        lastNonEmptyField = -1;
+
+        while (parseField() == ',') {
+            readIndex++;
+        }
+        return true;
+    }
+
+    int lineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * Quantidade de colunas do registro, desconsiderando colunas vazias no final da linha, assim como
+     * {@code String.split(",")}.
+     */
+    int fieldCount() {
+        return lastNonEmptyField + 1;
+    }
+
+    String text(int field) {
+        return new String(buffer, starts[field], ends[field] - starts[field]);
+    }
+
+    LocalDate date(int field) {
+        var start = starts[field];
+        var length = ends[field] - start;
+
+        if (length == 10 && buffer[start + 4] == '-' && buffer[start + 7] == '-') {
+            var year = digits(start, 4);
+            var month = digits(start + 5, 2);
+            var day = digits(start + 8, 2);
+            if (year < 0 || month < 0 || day < 0) return null;
+
+            return cachedDate(year, month, day);
+        }
+
+        try {
+            return LocalDate.parse(CharBuffer.wrap(buffer, start, length));
+        } catch (DateTimeException exception) {
+            return null;
+        }
+    }
+
+    BigDecimal decimal(int field) {
+        var start = starts[field];
+        var end = ends[field];
+        if (start == end) return null;
+
+        var index = start;
+        var negative = buffer[index] == '-';
+        if (negative || buffer[index] == '+') index++;
+
+        var unscaled = 0L;
+        var digits = 0;
+        var scale = -1;
+        for (; index < end; index++) {
+            var character = buffer[index];
+            if (character >= '0' && character <= '9') {
+                unscaled = unscaled * 10 + (character - '0');
+                digits++;
+                if (scale >= 0) scale++;
+            } else if (character == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                break;
+            }
+        }
+
+        if (index == end && digits > 0 && digits <= MAX_FAST_DECIMAL_DIGITS) {
+            return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+        }
+
+        try {
+            return new BigDecimal(buffer, start, end - start);
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    BillStatus status(int field) {
+        return BillStatus.match(buffer, starts[field], ends[field] - starts[field]);
+    }
+
+    private int parseField() throws IOException {
+        var rawEmpty = true;
+        var character = peek();
+
+        while (character >= 0 && character <= ' ' && character != '\n' && character != '\r') {
+            rawEmpty = false;
+            readIndex++;
+            character = peek();
+        }
+
+        if (character == '"') {
+            readIndex++;
+            fieldStart = readIndex;
+            writeIndex = readIndex;
+            parseQuotedContent();
+            endField(writeIndex, false);
+
+            character = peek();
+            while (character >= 0 && character != ',' && character != '\n' && character != '\r') {
+                readIndex++;
+                character = peek();
+            }
+        } else {
+            fieldStart = readIndex;
+            while (character >= 0 && character != ',' && character != '\n' && character != '\r') {
+                rawEmpty = false;
+                readIndex++;
+                character = peek();
+            }
+
+            var end = readIndex;
+            while (end > fieldStart && buffer[end - 1] <= ' ') end--;
+            endField(end, rawEmpty);
+        }
+
+        if (character == '\r') {
+            readIndex++;
+            if (peek() == '\n') readIndex++;
+            nextLineNumber++;
+        } else if (character == '\n') {
+            readIndex++;
+            nextLineNumber++;
+        }
+        return character;
+    }
+
+    private void parseQuotedContent() throws IOException {
+        while (true) {
+            var character = peek();
+            if (character < 0) return;
+            readIndex++;
+
+            if (character == '"') {
+                if (peek() != '"') return;
+                readIndex++;
+            } else if (character == '\n' || character == '\r' && peek() != '\n') {
+                nextLineNumber++;
+            }
+            buffer[writeIndex++] = (char) character;
+        }
+    }
+
+    private void endField(int end, boolean rawEmpty) {
+        if (fieldCount < COLUMNS_NUMBER) {
+            starts[fieldCount] = fieldStart;
+            ends[fieldCount] = end;
+        }
+        if (!rawEmpty) {
+            lastNonEmptyField = fieldCount;
+        }
+        fieldCount++;
+    }
+
+    private int peek() throws IOException {
+        if (readIndex == limit && !fill()) return -1;
+        return buffer[readIndex];
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfInput) return false;
+
+        if (recordStart > 0) {
+            var shift = recordStart;
+            System.arraycopy(buffer, shift, buffer, 0, limit - shift);
+            limit -= shift;
+            readIndex -= shift;
+            writeIndex -= shift;
+            fieldStart -= shift;
+            recordStart = 0;
+            for (int field = 0; field < Math.min(fieldCount, COLUMNS_NUMBER); field++) {
+                starts[field] -= shift;
+                ends[field] -= shift;
+            }
+        }
+
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        var read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        limit += read;
+        return read > 0 || fill();
+    }
+
+    /**
+     * Datas se repetem muito entre as linhas de um arquivo (o mesmo vencimento ou pagamento em várias contas), e
+     * {@link LocalDate} é imutável: um cache pequeno, indexado pela própria data, evita criar uma instância por
+     * coluna.
+     */
+    private LocalDate cachedDate(int year, int month, int day) {
+        var slot = ((year * 12 + month) * 31 + day) & (DATE_CACHE_SIZE - 1);
+        var cached = dateCache[slot];
+        if (cached != null && cached.getDayOfMonth() == day && cached.getMonthValue() == month && cached.getYear() == year) {
+            return cached;
+        }
+
+        try {
+            return dateCache[slot] = LocalDate.of(year, month, day);
+        } catch (DateTimeException exception) {
+            return null;
+        }
+    }
+
+    private int digits(int start, int length) {
+        var value = 0;
+        for (int index = start; index < start + length; index++) {
+            var character = buffer[index];
+            if (character < '0' || character > '9') return -1;
+            value = value * 10 + (character - '0');
+        }
+        return value;
+    }
+}
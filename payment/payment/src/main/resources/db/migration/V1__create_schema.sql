@@ -1,3 +1,6 @@
+-- Esquema original (antigo sql-script.txt). Bancos criados por aquele script são registrados nesta versão sem
+-- reexecutá-la (payment.migrations.baseline-version) e recebem as alterações a partir da V2.
+
 CREATE TABLE bill (
     id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
     due_date DATE NOT NULL,
@@ -7,4 +10,4 @@ CREATE TABLE bill (
     status VARCHAR(50),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
\ No newline at end of file
+);
@@ -0,0 +1,26 @@
+-- Converte o status gravado como texto ('PAGO', 'PENDENTE', 'ATRASADO') pelo esquema original para o código
+-- SMALLINT usado pela aplicação (1 = PAGO, 2 = PENDENTE, 3 = ATRASADO). Sem efeito quando a coluna já é SMALLINT.
+-- Valores fora da lista interrompem a migração, para serem corrigidos antes de repeti-la.
+DO $$
+DECLARE
+    invalid_rows BIGINT;
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_schema = current_schema() AND table_name = 'bill' AND column_name = 'status') = 'smallint' THEN
+        RETURN;
+    END IF;
+
+    SELECT COUNT(*) INTO invalid_rows FROM bill
+    WHERE status IS NULL OR upper(trim(status)) NOT IN ('PAGO', 'PENDENTE', 'ATRASADO');
+    IF invalid_rows > 0 THEN
+        RAISE EXCEPTION '% contas com status vazio ou desconhecido; corrija-as antes de migrar', invalid_rows;
+    END IF;
+
+    ALTER TABLE bill ALTER COLUMN status TYPE SMALLINT USING CASE upper(trim(status))
+        WHEN 'PAGO' THEN 1
+        WHEN 'PENDENTE' THEN 2
+        WHEN 'ATRASADO' THEN 3
+    END;
+    ALTER TABLE bill ALTER COLUMN status SET NOT NULL;
+END;
+$$;
@@ -0,0 +1,2 @@
+-- Versão para o controle de concorrência otimista (ETag / If-Match).
+ALTER TABLE bill ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Índices das consultas por vencimento, da verificação de duplicidade, da busca por descrição e dos relatórios.
+CREATE INDEX IF NOT EXISTS idx_bill_due_date_amount_status ON bill (due_date, amount, status);
+
+CREATE INDEX IF NOT EXISTS idx_bill_due_date_id ON bill (due_date, id);
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_bill_description_trgm ON bill USING gin (lower(description) gin_trgm_ops);
+
+-- status: 1 = PAGO, 2 = PENDENTE, 3 = ATRASADO
+CREATE INDEX IF NOT EXISTS idx_bill_pendente_due_date ON bill (due_date, id) WHERE status = 2;
+
+CREATE INDEX IF NOT EXISTS idx_bill_atrasado_due_date ON bill (due_date, id) WHERE status = 3;
+
+CREATE INDEX IF NOT EXISTS idx_bill_payment_date_amount_status ON bill (payment_date, amount, status) WHERE payment_date IS NOT NULL;
@@ -0,0 +1,12 @@
+-- Totais pagos por dia, mantidos pela aplicação a cada escrita, e carga inicial a partir das contas existentes.
+CREATE TABLE IF NOT EXISTS bill_daily_total (
+    payment_date DATE PRIMARY KEY,
+    total_amount NUMERIC(19, 2) NOT NULL DEFAULT 0,
+    bill_count BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO bill_daily_total (payment_date, total_amount, bill_count)
+SELECT payment_date, SUM(amount), COUNT(*) FROM bill
+WHERE payment_date IS NOT NULL
+GROUP BY payment_date
+ON CONFLICT (payment_date) DO NOTHING;
@@ -0,0 +1,102 @@
+-- Particiona bill por mês de vencimento. Consultas por intervalo de due_date passam a ler apenas as partições do
+-- intervalo. A chave primária precisa incluir a coluna de particionamento, por isso passa a ser (id, due_date).
+--
+-- Custo: buscas e atualizações só pelo id (findById, findDetailById, updateStatus, PUT /payments/{id}) não têm
+-- due_date para podar partições e consultam o índice de chave primária de cada partição (cerca de 130 com os
+-- valores padrão). Cada consulta é uma leitura de índice por partição, barata isoladamente, mas cresce com o
+-- número de partições; o cache de contas por id absorve a maior parte das leituras repetidas.
+
+ALTER TABLE bill RENAME TO bill_unpartitioned;
+ALTER INDEX bill_pkey RENAME TO bill_unpartitioned_pkey;
+
+DROP INDEX idx_bill_due_date_amount_status;
+DROP INDEX idx_bill_due_date_id;
+DROP INDEX idx_bill_description_trgm;
+DROP INDEX idx_bill_pendente_due_date;
+DROP INDEX idx_bill_atrasado_due_date;
+DROP INDEX idx_bill_payment_date_amount_status;
+
+CREATE TABLE bill (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    due_date DATE NOT NULL,
+    payment_date DATE,
+    amount NUMERIC(19, 2) NOT NULL,
+    description VARCHAR(255),
+    status SMALLINT NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, due_date)
+) PARTITION BY RANGE (due_date);
+
+-- Recebe vencimentos fora das partições mensais criadas (datas muito antigas ou muito futuras).
+CREATE TABLE bill_default PARTITION OF bill DEFAULT;
+
+-- Cria a partição do mês informado, se ainda não existir. Linhas desse mês que estejam na partição padrão são
+-- movidas para a nova partição, senão o PostgreSQL recusa a criação.
+CREATE FUNCTION create_bill_partition(partition_month DATE) RETURNS VOID AS $$
+DECLARE
+    partition_start DATE := date_trunc('month', partition_month)::DATE;
+    partition_end DATE := (date_trunc('month', partition_month) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'bill_' || to_char(partition_month, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM bill_default WHERE due_date >= partition_start AND due_date < partition_end) THEN
+        CREATE TEMP TABLE bill_partition_rows (LIKE bill) ON COMMIT DROP;
+        WITH moved AS (
+            DELETE FROM bill_default WHERE due_date >= partition_start AND due_date < partition_end RETURNING *
+        )
+        INSERT INTO bill_partition_rows SELECT * FROM moved;
+
+        EXECUTE format('CREATE TABLE %I PARTITION OF bill FOR VALUES FROM (%L) TO (%L)', partition_name, partition_start, partition_end);
+        INSERT INTO bill SELECT * FROM bill_partition_rows;
+        DROP TABLE bill_partition_rows;
+    ELSE
+        EXECUTE format('CREATE TABLE %I PARTITION OF bill FOR VALUES FROM (%L) TO (%L)', partition_name, partition_start, partition_end);
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partições mensais dos dados existentes (até 10 anos para trás) e dos próximos 12 meses. As seguintes são
+-- criadas pela aplicação (BillPartitionService).
+DO $$
+DECLARE
+    first_month DATE := date_trunc('month', GREATEST(
+            COALESCE((SELECT MIN(due_date) FROM bill_unpartitioned), CURRENT_DATE),
+            (CURRENT_DATE - INTERVAL '10 years')::DATE
+    ))::DATE;
+    last_month DATE := date_trunc('month', CURRENT_DATE + INTERVAL '12 months')::DATE;
+    partition_month DATE := first_month;
+BEGIN
+    WHILE partition_month <= last_month LOOP
+        PERFORM create_bill_partition(partition_month);
+        partition_month := (partition_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO bill (id, due_date, payment_date, amount, description, status, version, created_at, updated_at)
+SELECT id, due_date, payment_date, amount, description, status, version, created_at, updated_at
+FROM bill_unpartitioned;
+
+DROP TABLE bill_unpartitioned;
+
+-- Índices criados na tabela particionada depois da carga; o PostgreSQL cria o índice equivalente em cada partição,
+-- inclusive nas criadas depois.
+CREATE INDEX idx_bill_due_date_amount_status ON bill (due_date, amount, status);
+
+CREATE INDEX idx_bill_due_date_id ON bill (due_date, id);
+
+CREATE INDEX idx_bill_description_trgm ON bill USING gin (lower(description) gin_trgm_ops);
+
+-- status: 1 = PAGO, 2 = PENDENTE, 3 = ATRASADO
+CREATE INDEX idx_bill_pendente_due_date ON bill (due_date, id) WHERE status = 2;
+
+CREATE INDEX idx_bill_atrasado_due_date ON bill (due_date, id) WHERE status = 3;
+
+CREATE INDEX idx_bill_payment_date_amount_status ON bill (payment_date, amount, status) WHERE payment_date IS NOT NULL;
+
+ANALYZE bill;
@@ -0,0 +1,12 @@
+-- Chaves (vencimento, valor, status) já lidas em cada importação CSV, para achar linhas repetidas no arquivo sem
+-- guardá-las em memória. UNLOGGED: o conteúdo só vale durante a importação e não precisa sobreviver a uma queda do
+-- banco. Não é uma tabela temporária porque, com a política CHUNK, cada bloco pode usar uma conexão diferente.
+CREATE UNLOGGED TABLE IF NOT EXISTS csv_import_key (
+    import_id UUID NOT NULL,
+    due_date DATE NOT NULL,
+    amount NUMERIC NOT NULL,
+    status SMALLINT NOT NULL,
+    line_number INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (import_id, due_date, amount, status)
+);
@@ -0,0 +1,6 @@
+-- Prazo da reserva de uma chave ainda em processamento. Depois dele, uma nova requisição pode assumir a chave de
+-- uma requisição interrompida sem esperar o tempo de retenção. Reservas anteriores a esta coluna já podem ser
+-- assumidas.
+ALTER TABLE idempotency_key ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP;
+
+UPDATE idempotency_key SET lease_expires_at = created_at WHERE status IS NULL AND lease_expires_at IS NULL;
@@ -0,0 +1,36 @@
+package com.project.payment;
+
+import com.project.payment.config.SchemaMigrator;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sobe o contexto completo com um {@link DataSource} simulado, para pegar erros de ligação entre beans (como
+ * dependências circulares) sem precisar de um PostgreSQL.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false",
+        "payment.migrations.baseline-version=0",
+        "payment.partitions.enabled=false"
+})
+class PaymentApplicationContextTest {
+
+    @MockitoBean(name = "hikariDataSource", answers = Answers.RETURNS_MOCKS)
+    private DataSource dataSource;
+
+    @Autowired
+    private SchemaMigrator schemaMigrator;
+
+    @Test
+    void contextLoads_withSchemaMigratorBeforeJpa() {
+        assertNotNull(schemaMigrator);
+    }
+}
@@ -0,0 +1,52 @@
+package com.project.payment.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessTokenServiceTest {
+
+    private static final byte[] SECRET = "chave-de-teste-com-32-bytes-ok!!".getBytes(UTF_8);
+    private static final Instant NOW = Instant.parse("2025-07-01T10:00:00Z");
+
+    private final AccessTokenService tokenService = tokenServiceAt(NOW);
+
+    @Test
+    void verify_shouldReturnUsername_whenTokenIsValid() {
+        var token = tokenService.issue("admin");
+
+        assertEquals(Optional.of("admin"), tokenService.verify(token));
+    }
+
+    @Test
+    void verify_shouldRejectToken_whenExpired() {
+        var token = tokenService.issue("admin");
+
+        assertTrue(tokenServiceAt(NOW.plus(Duration.ofMinutes(15))).verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_shouldRejectToken_whenTamperedOrMalformed() {
+        var token = tokenService.issue("admin");
+        var forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString("root\n9999999999".getBytes(UTF_8));
+
+        assertAll(
+                () -> assertTrue(tokenService.verify(forgedPayload + token.substring(token.indexOf('.'))).isEmpty()),
+                () -> assertTrue(new AccessTokenService("outra-chave".getBytes(UTF_8), Duration.ofMinutes(15)).verify(token).isEmpty()),
+                () -> assertTrue(tokenService.verify("sem-assinatura").isEmpty()),
+                () -> assertTrue(tokenService.verify("%%%.%%%").isEmpty())
+        );
+    }
+
+    private static AccessTokenService tokenServiceAt(Instant instant) {
+        return new AccessTokenService(SECRET, Duration.ofMinutes(15), Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
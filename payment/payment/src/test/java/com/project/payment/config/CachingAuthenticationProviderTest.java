@@ -0,0 +1,56 @@
+package com.project.payment.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingAuthenticationProviderTest {
+
+    private final AuthenticationProvider delegate = mock(AuthenticationProvider.class);
+    private final CachingAuthenticationProvider provider = new CachingAuthenticationProvider(delegate, 100, Duration.ofMinutes(5));
+
+    @Test
+    void authenticate_shouldVerifyCredentialsOnce_whenRepeated() {
+        when(delegate.authenticate(any())).thenReturn(UsernamePasswordAuthenticationToken.authenticated("admin", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        var first = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "1234"));
+        var second = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "1234"));
+
+        assertAll(
+                () -> assertTrue(second.isAuthenticated()),
+                () -> assertEquals("admin", second.getName()),
+                () -> assertNull(second.getCredentials()),
+                () -> assertSame(first, second),
+                () -> verify(delegate, times(1)).authenticate(any())
+        );
+    }
+
+    @Test
+    void authenticate_shouldNotCacheInvalidCredentials() {
+        when(delegate.authenticate(any())).thenThrow(new BadCredentialsException("Credenciais inválidas"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "errada")));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "errada")));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void authenticate_shouldVerifyAgain_whenPasswordDiffers() {
+        when(delegate.authenticate(any()))
+                .thenReturn(UsernamePasswordAuthenticationToken.authenticated("admin", null, AuthorityUtils.createAuthorityList("ROLE_USER")))
+                .thenThrow(new BadCredentialsException("Credenciais inválidas"));
+
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "1234"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "12345")));
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.payment.config;
+
+import com.project.payment.exception.DataBaseBusyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(targetDataSource, 1, Duration.ofMillis(10));
+    }
+
+    @Test
+    void getConnection_shouldThrowDataBaseBusyException_whenNoPermitIsAvailable() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        dataSource.getConnection();
+
+        assertThrows(DataBaseBusyException.class, () -> dataSource.getConnection());
+        verify(targetDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    void close_shouldReleasePermitOnlyOnce() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        var limitedConnection = dataSource.getConnection();
+        limitedConnection.close();
+        limitedConnection.close();
+
+        assertAll(
+                () -> assertEquals(1, dataSource.availablePermits()),
+                () -> verify(connection, times(2)).close()
+        );
+    }
+
+    @Test
+    void getConnection_shouldReleasePermit_whenPoolFails() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool esgotado"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        assertEquals(1, dataSource.availablePermits());
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.payment.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadConsistencyInterceptorTest {
+
+    private final ReadConsistencyInterceptor interceptor = new ReadConsistencyInterceptor();
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.clear();
+    }
+
+    @Test
+    void preHandle_shouldRequirePrimary_whenStrongConsistencyIsRequested() {
+        var request = new MockHttpServletRequest();
+        request.addHeader(ReadConsistency.HEADER, "Strong");
+
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+
+        assertTrue(ReadConsistency.isPrimaryRequired());
+    }
+
+    @Test
+    void preHandle_shouldAllowReplica_whenHeaderIsMissingOrUnknown() {
+        var request = new MockHttpServletRequest();
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+        assertFalse(ReadConsistency.isPrimaryRequired());
+
+        request.addHeader(ReadConsistency.HEADER, "immediate");
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+        assertFalse(ReadConsistency.isPrimaryRequired());
+    }
+
+    @Test
+    void afterCompletion_shouldClearConsistency() {
+        var request = new MockHttpServletRequest();
+        request.addHeader(ReadConsistency.HEADER, "strong");
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        assertFalse(ReadConsistency.isPrimaryRequired());
+    }
+}
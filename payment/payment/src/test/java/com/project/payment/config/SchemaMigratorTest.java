@@ -0,0 +1,23 @@
+package com.project.payment.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigratorTest {
+
+    @Test
+    void resolveMigrations_shouldReturnScriptsOrderedByVersion() {
+        var migrations = SchemaMigrator.resolveMigrations();
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9), migrations.stream().map(SchemaMigrator.Migration::version).toList());
+        assertEquals("create schema", migrations.get(0).description());
+        assertTrue(migrations.get(0).script().contains("status VARCHAR(50)"));
+        assertEquals("convert bill status to smallint", migrations.get(1).description());
+        assertEquals("partition bill by due date", migrations.get(6).description());
+        assertTrue(migrations.get(6).script().contains("PARTITION BY RANGE (due_date)"));
+        assertEquals(64, migrations.get(6).checksum().length());
+    }
+}
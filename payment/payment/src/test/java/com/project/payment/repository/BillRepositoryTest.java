@@ -0,0 +1,96 @@
+package com.project.payment.repository;
+
+import com.project.payment.config.SchemaMigrationConfiguration;
+import com.project.payment.model.Bill;
+import com.project.payment.model.BillKey;
+import com.project.payment.model.BillStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Roda contra um PostgreSQL real, informado em {@code PAYMENT_TEST_DATABASE_URL} (usuário e senha em
+ * {@code PAYMENT_TEST_DATABASE_USERNAME} e {@code PAYMENT_TEST_DATABASE_PASSWORD}); sem a variável, é ignorado.
+ * Cada teste é desfeito ao final.
+ */
+@DataJpaTest
+@Import(SchemaMigrationConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "PAYMENT_TEST_DATABASE_URL", matches = ".+")
+@TestPropertySource(properties = {
+        "spring.datasource.url=${PAYMENT_TEST_DATABASE_URL}",
+        "spring.datasource.username=${PAYMENT_TEST_DATABASE_USERNAME:postgres}",
+        "spring.datasource.password=${PAYMENT_TEST_DATABASE_PASSWORD:postgres}"
+})
+class BillRepositoryTest {
+
+    private static final LocalDate DUE_DATE = LocalDate.parse("2025-07-01");
+    private static final BigDecimal AMOUNT = new BigDecimal("150.00");
+
+    @Autowired
+    private BillRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void existsByDueDateAndAmountAndStatusAndIdNot_shouldIgnoreManagedBill_whenOnlyItsDescriptionChanges() {
+        var saved = repository.saveAndFlush(bill(DUE_DATE, AMOUNT, "Conta de luz"));
+        entityManager.clear();
+
+        var managed = repository.findById(saved.getId()).orElseThrow();
+        managed.setDescription("Conta de luz - julho");
+
+        assertAll(
+                () -> assertTrue(repository.findByDueDateAndAmountAndStatus(DUE_DATE, AMOUNT, BillStatus.PENDENTE).isPresent()),
+                () -> assertFalse(repository.existsByDueDateAndAmountAndStatusAndIdNot(DUE_DATE, AMOUNT, BillStatus.PENDENTE, managed.getId()))
+        );
+    }
+
+    @Test
+    void existsByDueDateAndAmountAndStatusAndIdNot_shouldFindOtherBill_whenUpdatedKeyMatchesIt() {
+        repository.saveAndFlush(bill(DUE_DATE, AMOUNT, "Conta de luz"));
+        var other = repository.saveAndFlush(bill(DUE_DATE.plusDays(1), AMOUNT, "Conta de água"));
+        entityManager.clear();
+
+        var managed = repository.findById(other.getId()).orElseThrow();
+        managed.setDueDate(DUE_DATE);
+
+        assertTrue(repository.existsByDueDateAndAmountAndStatusAndIdNot(DUE_DATE, AMOUNT, BillStatus.PENDENTE, managed.getId()));
+    }
+
+    @Test
+    void findBillKeys_shouldMatchWholeTuples_notEachColumnSeparately() {
+        var otherAmount = new BigDecimal("80.00");
+        repository.saveAndFlush(bill(DUE_DATE, AMOUNT, "Conta de luz"));
+        repository.saveAndFlush(bill(DUE_DATE.plusDays(1), otherAmount, "Conta de água"));
+
+        var result = repository.findBillKeys(List.of(
+                new BillKey(DUE_DATE, new BigDecimal("150"), BillStatus.PENDENTE),
+                new BillKey(DUE_DATE, otherAmount, BillStatus.PENDENTE),
+                new BillKey(DUE_DATE.plusDays(1), AMOUNT, BillStatus.PENDENTE)
+        ));
+
+        assertEquals(List.of(new BillKey(DUE_DATE, AMOUNT, BillStatus.PENDENTE)), result);
+    }
+
+    private Bill bill(LocalDate dueDate, BigDecimal amount, String description) {
+        return Bill.builder()
+                .dueDate(dueDate)
+                .amount(amount)
+                .description(description)
+                .status(BillStatus.PENDENTE)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BillSpecificationTest {
+
+    @Mock
+    private Root<Bill> root;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder builder;
+
+    @Mock
+    private Path<String> description;
+
+    @Mock
+    private Expression<String> lowerDescription;
+
+    @Test
+    void descriptionContains_shouldEscapeWildcards_whenDescriptionHasLiteralPercent() {
+        when(root.<String>get("description")).thenReturn(description);
+        when(builder.lower(description)).thenReturn(lowerDescription);
+
+        BillSpecification.descriptionContains("Desconto 10%_a\\b").toPredicate(root, query, builder);
+
+        verify(builder).like(lowerDescription, "%desconto 10\\%\\_a\\\\b%", '\\');
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.Bill;
+import com.project.payment.model.BillDescription;
+import com.project.payment.model.BillStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryBillSearchIndexTest {
+
+    @Mock
+    private BillRepository repository;
+
+    private InMemoryBillSearchIndex searchIndex;
+
+    private final Map<UUID, Bill> rows = new HashMap<>();
+
+    private Bill energy;
+    private Bill energyJuly;
+    private Bill water;
+
+    @BeforeEach
+    void setUp() {
+        energy = mockBill("Energia", LocalDate.of(2025, 7, 10));
+        energyJuly = mockBill("Conta de energia de julho", LocalDate.of(2025, 7, 1));
+        water = mockBill("Conta de água", LocalDate.of(2025, 7, 5));
+        List.of(energy, energyJuly, water).forEach(bill -> rows.put(bill.getId(), bill));
+
+        lenient().when(repository.findAllById(any())).thenAnswer(invocation -> {
+            var found = new ArrayList<Bill>();
+            Iterable<UUID> ids = invocation.getArgument(0);
+            ids.forEach(id -> {
+                if (rows.containsKey(id)) found.add(rows.get(id));
+            });
+            return found;
+        });
+
+        searchIndex = new InMemoryBillSearchIndex(repository);
+        searchIndex.load(rows.values().stream().map(BillDescription::of).toList());
+    }
+
+    @Test
+    void search_shouldReturnContainingDescriptions_rankedBySimilarity() {
+        var result = searchIndex.search(" ENERGIA ", 10);
+
+        assertEquals(List.of(energy, energyJuly), result);
+    }
+
+    @Test
+    void search_shouldRespectLimit_andOrderByDueDateWhenTextIsShort() {
+        var result = searchIndex.search("de", 1);
+
+        assertEquals(List.of(energyJuly), result);
+    }
+
+    @Test
+    void index_shouldReplacePreviousDescription_whenBillChanges() {
+        water.setDescription("Conta de gás");
+        searchIndex.index(List.of(water));
+
+        assertAll(
+                () -> assertTrue(searchIndex.search("água", 10).isEmpty()),
+                () -> assertTrue(searchIndex.search("de ", 10).contains(water)),
+                () -> assertEquals(List.of(water), searchIndex.search("gás", 10))
+        );
+    }
+
+    @Test
+    void search_shouldReturnCurrentRow_whenStatusChangesWithoutReindexing() {
+        rows.put(energy.getId(), Bill.builder()
+                .id(energy.getId())
+                .dueDate(energy.getDueDate())
+                .amount(energy.getAmount())
+                .description(energy.getDescription())
+                .status(BillStatus.PAGO)
+                .build());
+
+        var result = searchIndex.search("energia", 10);
+
+        assertEquals(BillStatus.PAGO, result.getFirst().getStatus());
+    }
+
+    @Test
+    void search_shouldSkipBills_missingFromTheDatabase() {
+        rows.remove(energy.getId());
+
+        assertEquals(List.of(energyJuly), searchIndex.search("energia", 10));
+    }
+
+    private Bill mockBill(String description, LocalDate dueDate) {
+        return Bill.builder()
+                .id(UUID.randomUUID())
+                .dueDate(dueDate)
+                .amount(BigDecimal.TEN)
+                .description(description)
+                .status(BillStatus.PENDENTE)
+                .build();
+    }
+}
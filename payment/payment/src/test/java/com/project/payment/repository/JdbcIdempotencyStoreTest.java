@@ -0,0 +1,62 @@
+package com.project.payment.repository;
+
+import com.project.payment.model.IdempotencyRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcIdempotencyStoreTest {
+
+    private static final String KEY = "7c4a8d09-ca37-4d1b-8a2e-2a1f2f2d7b55";
+    private static final String FINGERPRINT = "fingerprint";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new JdbcIdempotencyStore(jdbcTemplate, Duration.ofHours(24), Duration.ofMinutes(30));
+    }
+
+    @Test
+    void claim_shouldTakeOverPendingKey_whenLeaseHasExpired() {
+        lenient().when(jdbcTemplate.update(startsWith("INSERT"), any(Object[].class))).thenReturn(0);
+        lenient().when(jdbcTemplate.update(startsWith("UPDATE"), any(Object[].class))).thenReturn(1);
+
+        var result = store.claim(KEY, FINGERPRINT);
+
+        assertAll(
+                () -> assertEquals(Optional.empty(), result),
+                () -> verify(jdbcTemplate).update(contains("lease_expires_at < ?"), any(Object[].class)),
+                () -> verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class))
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void claim_shouldReturnPendingRecord_whenLeaseIsStillValid() {
+        lenient().when(jdbcTemplate.update(startsWith("INSERT"), any(Object[].class))).thenReturn(0);
+        lenient().when(jdbcTemplate.update(startsWith("UPDATE"), any(Object[].class))).thenReturn(0);
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), any(Object[].class)))
+                .thenReturn(List.of(IdempotencyRecord.pending(FINGERPRINT)));
+
+        var result = store.claim(KEY, FINGERPRINT);
+
+        assertEquals(Optional.of(IdempotencyRecord.pending(FINGERPRINT)), result);
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.payment.service;
+
+import com.project.payment.model.Bill;
+import com.project.payment.repository.BillDailyTotalRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BillDailyTotalServiceTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 7, 1);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2025, 7, 2);
+    private static final BigDecimal AMOUNT = new BigDecimal("100.00");
+
+    @Mock
+    private BillDailyTotalRepository repository;
+
+    @InjectMocks
+    private BillDailyTotalService service;
+
+    @Test
+    void addBills_shouldAggregateBillsPerPaymentDateInDateOrder() {
+        var bills = List.of(
+                mockBill(SECOND_DAY, AMOUNT),
+                mockBill(FIRST_DAY, AMOUNT),
+                mockBill(SECOND_DAY, new BigDecimal("50.00")),
+                mockBill(null, AMOUNT)
+        );
+
+        service.addBills(bills);
+
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).addToDailyTotal(FIRST_DAY, AMOUNT, 1);
+        inOrder.verify(repository).addToDailyTotal(SECOND_DAY, new BigDecimal("150.00"), 2);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void apply_shouldWriteChangesAccumulatedAcrossChunksOncePerDateInDateOrder() {
+        var changes = new BillDailyTotalChanges();
+        changes.add(List.of(mockBill(SECOND_DAY, AMOUNT), mockBill(FIRST_DAY, AMOUNT)));
+        changes.add(List.of(mockBill(FIRST_DAY, new BigDecimal("50.00")), mockBill(null, AMOUNT)));
+
+        service.apply(changes);
+
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).addToDailyTotal(FIRST_DAY, new BigDecimal("150.00"), 2);
+        inOrder.verify(repository).addToDailyTotal(SECOND_DAY, AMOUNT, 1);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void replaceBill_shouldApplyAmountDifference_whenPaymentDateIsUnchanged() {
+        service.replaceBill(FIRST_DAY, AMOUNT, mockBill(FIRST_DAY, new BigDecimal("120.00")));
+
+        verify(repository).addToDailyTotal(FIRST_DAY, new BigDecimal("20.00"), 0);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void replaceBill_shouldMoveBillBetweenDays_whenPaymentDateChanges() {
+        service.replaceBill(FIRST_DAY, AMOUNT, mockBill(SECOND_DAY, AMOUNT));
+
+        assertAll(
+                () -> verify(repository).addToDailyTotal(FIRST_DAY, AMOUNT.negate(), -1),
+                () -> verify(repository).addToDailyTotal(SECOND_DAY, AMOUNT, 1)
+        );
+    }
+
+    @Test
+    void replaceBill_shouldDoNothing_whenAmountAndPaymentDateAreUnchanged() {
+        service.replaceBill(FIRST_DAY, AMOUNT, mockBill(FIRST_DAY, new BigDecimal("100")));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void sumTotalAmountByPaymentDateBetween_shouldReturnZero_whenThereAreNoTotals() {
+        when(repository.sumTotalAmountByPaymentDateBetween(FIRST_DAY, SECOND_DAY)).thenReturn(Optional.empty());
+
+        assertEquals(BigDecimal.ZERO, service.sumTotalAmountByPaymentDateBetween(FIRST_DAY, SECOND_DAY));
+    }
+
+    @Test
+    void rebuild_shouldLockBillsBeforeRecomputingTotals() {
+        when(repository.insertDailyTotalsFromBills()).thenReturn(3);
+
+        var days = service.rebuild();
+
+        InOrder inOrder = inOrder(repository);
+        assertAll(
+                () -> assertEquals(3, days),
+                () -> inOrder.verify(repository).lockBillTable(),
+                () -> inOrder.verify(repository).deleteAllDailyTotals(),
+                () -> inOrder.verify(repository).insertDailyTotalsFromBills()
+        );
+    }
+
+    private Bill mockBill(LocalDate paymentDate, BigDecimal amount) {
+        return Bill.builder()
+                .dueDate(FIRST_DAY)
+                .paymentDate(paymentDate)
+                .amount(amount)
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.payment.metrics.PaymentMetrics;
+import com.project.payment.model.Bill;
+import com.project.payment.model.BillStatus;
+import com.project.payment.model.ExportFormat;
+import com.project.payment.repository.BillFilter;
+import com.project.payment.repository.BillRepository;
+import com.project.payment.repository.CsvImportKeyRepository;
+import com.project.payment.validator.BillValidator;
+import com.project.payment.validator.CsvFileValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BillExportServiceTest {
+
+    private static final BillFilter FILTER = new BillFilter(null, null, null, null, null);
+
+    @Mock
+    private BillRepository repository;
+
+    @Mock
+    private BillValidator billValidator;
+
+    @Mock
+    private CsvImportKeyRepository importKeyRepository;
+
+    @Mock
+    private PaymentMetrics metrics;
+
+    private BillExportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BillExportService(repository, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void exportBills_shouldWriteCsvInImportLayout_andCloseStream() throws Exception {
+        var closed = new AtomicBoolean();
+        when(repository.streamBills(FILTER)).thenReturn(mockBills().stream().onClose(() -> closed.set(true)));
+
+        var output = new ByteArrayOutputStream();
+        service.exportBills(FILTER, ExportFormat.CSV, output);
+
+        assertAll(
+                () -> assertEquals("""
+                        2025-07-01,2025-07-02,150.00,Conta de energia,PAGO
+                        2025-07-05,,89.90,"Internet, fibra ""500MB\""",PENDENTE
+                        """, output.toString(UTF_8)),
+                () -> assertTrue(closed.get())
+        );
+    }
+
+    @Test
+    void exportBills_shouldWriteCsvThatCanBeImportedAgain() throws Exception {
+        when(repository.streamBills(FILTER)).thenReturn(Stream.of(mockBills().getFirst(), mockBill(LocalDate.of(2025, 7, 5), LocalDate.of(2025, 7, 6), "Água\nCondomínio", BillStatus.ATRASADO)));
+
+        var output = new ByteArrayOutputStream();
+        service.exportBills(FILTER, ExportFormat.CSV, output);
+
+        var csvFileValidator = new CsvFileValidator(billValidator, importKeyRepository, metrics, 1000, 1);
+        var imported = csvFileValidator.processCsvBase64(Base64.getEncoder().encodeToString(output.toByteArray()));
+        assertAll(
+                () -> assertEquals(2, imported.size()),
+                () -> assertEquals("Conta de energia", imported.get(0).getDescription()),
+                () -> assertEquals("Água\nCondomínio", imported.get(1).getDescription()),
+                () -> assertEquals(BillStatus.ATRASADO, imported.get(1).getStatus())
+        );
+    }
+
+    @Test
+    void exportBills_shouldWriteOneJsonObjectPerLine() throws Exception {
+        when(repository.streamBills(FILTER)).thenReturn(mockBills().stream());
+
+        var output = new ByteArrayOutputStream();
+        service.exportBills(FILTER, ExportFormat.NDJSON, output);
+
+        var lines = output.toString(UTF_8).split("\n");
+        var objectMapper = new ObjectMapper().findAndRegisterModules();
+        assertAll(
+                () -> assertEquals(2, lines.length),
+                () -> assertEquals("Conta de energia", objectMapper.readTree(lines[0]).get("description").asText()),
+                () -> assertEquals("PENDENTE", objectMapper.readTree(lines[1]).get("status").asText()),
+                () -> assertTrue(output.toString(UTF_8).endsWith("\n"))
+        );
+    }
+
+    private List<Bill> mockBills() {
+        return List.of(
+                mockBill(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 2), "Conta de energia", BillStatus.PAGO),
+                Bill.builder()
+                        .id(UUID.randomUUID())
+                        .dueDate(LocalDate.of(2025, 7, 5))
+                        .amount(new BigDecimal("89.90"))
+                        .description("Internet, fibra \"500MB\"")
+                        .status(BillStatus.PENDENTE)
+                        .build()
+        );
+    }
+
+    private Bill mockBill(LocalDate dueDate, LocalDate paymentDate, String description, BillStatus status) {
+        return Bill.builder()
+                .id(UUID.randomUUID())
+                .dueDate(dueDate)
+                .paymentDate(paymentDate)
+                .amount(new BigDecimal("150.00"))
+                .description(description)
+                .status(status)
+                .build();
+    }
+}
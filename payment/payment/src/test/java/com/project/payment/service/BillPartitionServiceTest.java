@@ -0,0 +1,52 @@
+package com.project.payment.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BillPartitionServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-11-15T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createFuturePartitions_shouldCreateCurrentAndNextMonths() {
+        var service = new BillPartitionService(jdbcTemplate, 2, CLOCK);
+
+        service.createFuturePartitions();
+
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(Date.valueOf(LocalDate.of(2025, 11, 1))));
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(Date.valueOf(LocalDate.of(2025, 12, 1))));
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(Date.valueOf(LocalDate.of(2026, 1, 1))));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void createFuturePartitions_shouldContinueWhenOneMonthFails() {
+        var service = new BillPartitionService(jdbcTemplate, 1, CLOCK);
+        doThrow(new DataAccessResourceFailureException("falha"))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(Date.valueOf(LocalDate.of(2025, 11, 1))));
+
+        service.createFuturePartitions();
+
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(Date.valueOf(LocalDate.of(2025, 12, 1))));
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.payment.service;
+
+import com.project.payment.exception.InvalidPeriodException;
+import com.project.payment.model.BillReportRow;
+import com.project.payment.model.BillStatus;
+import com.project.payment.model.ReportDateField;
+import com.project.payment.model.ReportPeriod;
+import com.project.payment.repository.BillReportRepository;
+import com.project.payment.validator.BillValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BillReportServiceTest {
+
+    private static final LocalDate START_DATE = LocalDate.parse("2025-01-01");
+    private static final LocalDate END_DATE = LocalDate.parse("2025-03-31");
+
+    @Mock
+    private BillReportRepository reportRepository;
+
+    @Mock
+    private BillValidator billValidator;
+
+    @InjectMocks
+    private BillReportService service;
+
+    @Test
+    void getReport_successWhenPeriodIsValid_returnsGroupedRows() {
+        var rows = List.of(
+                new BillReportRow(LocalDate.parse("2025-01-01"), BillStatus.PAGO, new BigDecimal("300.00"), 2, new BigDecimal("150.00")),
+                new BillReportRow(LocalDate.parse("2025-02-01"), BillStatus.PAGO, new BigDecimal("80.00"), 1, new BigDecimal("80.00"))
+        );
+        when(reportRepository.aggregate(ReportDateField.DUE_DATE, ReportPeriod.MONTH, true, START_DATE, END_DATE)).thenReturn(rows);
+
+        var report = service.getReport(START_DATE, END_DATE, ReportPeriod.MONTH, ReportDateField.DUE_DATE, true);
+        assertAll(
+                () -> assertEquals(rows, report.rows()),
+                () -> assertEquals(ReportPeriod.MONTH, report.groupBy()),
+                () -> assertEquals(ReportDateField.DUE_DATE, report.dateField()),
+                () -> verify(billValidator).validateSearchPeriodForSumOfBills(START_DATE, END_DATE)
+        );
+    }
+
+    @Test
+    void getReport_errorWhenPeriodIsInverted_throwsInvalidPeriodException() {
+        doThrow(new InvalidPeriodException("A data inicial deve ser menor do que a data final."))
+                .when(billValidator).validateSearchPeriodForSumOfBills(END_DATE, START_DATE);
+
+        assertAll(
+                () -> assertThrows(InvalidPeriodException.class, () -> service.getReport(END_DATE, START_DATE, ReportPeriod.DAY, ReportDateField.PAYMENT_DATE, false)),
+                () -> verifyNoInteractions(reportRepository)
+        );
+    }
+
+    @Test
+    void reportEnums_shouldAcceptColumnAndPropertyNames() {
+        assertAll(
+                () -> assertEquals(ReportDateField.PAYMENT_DATE, ReportDateField.of("payment_date")),
+                () -> assertEquals(ReportDateField.DUE_DATE, ReportDateField.of("dueDate")),
+                () -> assertEquals(ReportPeriod.WEEK, ReportPeriod.of("Week")),
+                () -> assertThrows(IllegalArgumentException.class, () -> ReportPeriod.of("year"))
+        );
+    }
+}
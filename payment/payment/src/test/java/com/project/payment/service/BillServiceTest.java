@@ -1,10 +1,28 @@
 package com.project.payment.service;
 
+import com.project.payment.config.ReadConsistency;
 import com.project.payment.controller.dto.SaveBillDTO;
 import com.project.payment.controller.dto.UpdateBillDTO;
+import com.project.payment.controller.dto.UpdateBillsStatusDTO;
+import com.project.payment.controller.dto.UpdateBillsStatusResultDTO;
+import com.project.payment.controller.dto.UpdateBillsStatusResultDTO.Outcome;
 import com.project.payment.controller.mapper.BillMapperImpl;
+import com.project.payment.exception.BillVersionMismatchException;
+import com.project.payment.exception.InvalidCursorException;
+import com.project.payment.metrics.PaymentMetrics;
 import com.project.payment.model.Bill;
+import com.project.payment.model.BillCursor;
+import com.project.payment.model.BillDetail;
+import com.project.payment.model.BillStatus;
+import com.project.payment.model.BillSummary;
+import com.project.payment.model.CsvCommitPolicy;
+import com.project.payment.model.CsvImportJob;
+import com.project.payment.model.CsvImportProgress;
+import com.project.payment.repository.BillBulkRepository;
+import com.project.payment.repository.BillFilter;
 import com.project.payment.repository.BillRepository;
+import com.project.payment.repository.BillSearchIndex;
+import com.project.payment.repository.BulkInsertMode;
 import com.project.payment.validator.BillValidator;
 import com.project.payment.validator.CsvFileValidator;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,19 +31,33 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import static java.math.BigDecimal.TEN;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,8 +65,8 @@ class BillServiceTest {
 
     private static final UUID BILL_ID = UUID.randomUUID();
 
-    private static final String STATUS_PAID = "PAGO";
-    private static final String STATUS_PENDING = "PEDING";
+    private static final BillStatus STATUS_PAID = BillStatus.PAGO;
+    private static final BillStatus STATUS_PENDING = BillStatus.PENDENTE;
     private static final String DESCRIPTION = "Conta de Luz";
     private static final String CSV_BASE64 = "MjAyNS0wNy0wMSwyMDI1LTA3LTAyLDE1MC4wMCxDb250YSBkZSBlbmVyZ2lhLFBFTkRFTlRFk";
     private static final LocalDate START_DATE = LocalDate.parse("2025-01-01");
@@ -53,13 +85,34 @@ class BillServiceTest {
     @Mock
     private CsvFileValidator csvFileValidator;
 
+    @Mock
+    private BillBulkRepository bulkRepository;
+
+    @Mock
+    private BillDailyTotalService dailyTotalService;
+
+    @Mock
+    private BillSearchIndex searchIndex;
+
+    @Mock
+    private PaymentMetrics metrics;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private BillService service;
 
     @BeforeEach
     void setUp() {
         var mapper = new BillMapperImpl();
-        service = new BillService(repository, billValidator, csvFileValidator, mapper);
+        service = new BillService(repository, bulkRepository, billValidator, csvFileValidator, mapper, dailyTotalService, searchIndex, metrics, transactionTemplate);
+
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
     }
 
     @Test
@@ -73,7 +126,9 @@ class BillServiceTest {
         assertAll(
                 () -> assertEquals(billEntity, result),
                 () -> verify(billValidator, times(1)).checkBillAlreadyRegistered(billEntity),
-                () -> verify(repository, times(1)).save(billEntity)
+                () -> verify(repository, times(1)).save(billEntity),
+                () -> verify(dailyTotalService, times(1)).addBills(List.of(billEntity)),
+                () -> verify(searchIndex, times(1)).index(List.of(billEntity))
         );
     }
 
@@ -84,55 +139,191 @@ class BillServiceTest {
 
         when(billValidator.checkExistingBill(BILL_ID)).thenReturn(billEntity);
 
-        service.updateBill(BILL_ID, updateBillDTO);
+        service.updateBill(BILL_ID, updateBillDTO, 0L);
         assertAll(
                 () -> verify(billValidator, times(1)).checkExistingBill(BILL_ID),
+                () -> verify(billValidator, times(1)).checkBillVersion(billEntity, 0L),
                 () -> verify(billValidator, times(1)).checkBillAlreadyRegistered(billEntity),
-                () -> verify(repository, times(1)).save(billEntity)
+                () -> verify(repository, times(1)).saveAndFlush(billEntity),
+                () -> verify(dailyTotalService, times(1)).replaceBill(PAYMENT_DATE, TEN, billEntity)
+        );
+    }
+
+    @Test
+    void updateBill_errorWhenBillChangedConcurrently_throwsBillVersionMismatchException() {
+        var updateBillDTO = mockUpdateBillDTO();
+        var billEntity = mockBillEntity();
+
+        when(billValidator.checkExistingBill(BILL_ID)).thenReturn(billEntity);
+        when(repository.saveAndFlush(billEntity)).thenThrow(new ObjectOptimisticLockingFailureException(Bill.class, BILL_ID));
+        when(billValidator.versionMismatch()).thenReturn(new BillVersionMismatchException("conflito"));
+
+        assertAll(
+                () -> assertThrows(BillVersionMismatchException.class, () -> service.updateBill(BILL_ID, updateBillDTO, null)),
+                () -> verifyNoInteractions(dailyTotalService, searchIndex)
         );
     }
 
     @Test
     void updateBillStatus_successWhenUpdatingStatus_returnsVoid() {
-        var bill = mockBillEntity();
+        when(repository.updateStatus(eq(BILL_ID), eq(STATUS_PENDING), any())).thenReturn(1);
 
-        when(billValidator.checkExistingBill(BILL_ID)).thenReturn(bill);
+        service.updateBillStatus(BILL_ID, STATUS_PENDING, null);
+        assertAll(
+                () -> verify(billValidator, times(1)).checkBillUpdated(1, BILL_ID),
+                () -> verify(repository, never()).findById(BILL_ID),
+                () -> verifyNoInteractions(searchIndex)
+        );
+    }
 
-        service.updateBillStatus(BILL_ID, STATUS_PENDING);
+    @Test
+    void updateBillStatus_successWhenUpdatingExpectedVersion_returnsVoid() {
+        when(repository.updateStatus(eq(BILL_ID), eq(STATUS_PENDING), eq(3L), any())).thenReturn(1);
+
+        service.updateBillStatus(BILL_ID, STATUS_PENDING, 3L);
+        verify(billValidator, times(1)).checkBillUpdated(1, BILL_ID);
+    }
+
+    @Test
+    void updateBillStatus_errorWhenVersionDoesNotMatch_throwsBillVersionMismatchException() {
+        when(repository.updateStatus(eq(BILL_ID), eq(STATUS_PENDING), eq(3L), any())).thenReturn(0);
+        doThrow(new BillVersionMismatchException("conflito")).when(billValidator).checkBillUpdated(0, BILL_ID);
+
+        assertThrows(BillVersionMismatchException.class, () -> service.updateBillStatus(BILL_ID, STATUS_PENDING, 3L));
+    }
+
+    @Test
+    void updateBillsStatus_successWhenUpdatingByIds_returnsResultPerId() {
+        var missingId = UUID.randomUUID();
+        var updateBillsStatusDTO = UpdateBillsStatusDTO.builder()
+                .status(STATUS_PAID)
+                .ids(List.of(BILL_ID, missingId, BILL_ID))
+                .build();
+
+        when(bulkRepository.updateStatusByIds(Set.of(BILL_ID, missingId), STATUS_PAID)).thenReturn(Set.of(BILL_ID));
+
+        var result = service.updateBillsStatus(updateBillsStatusDTO);
         assertAll(
-                () -> assertEquals(STATUS_PENDING, bill.getStatus()),
-                () -> verify(repository, times(1)).save(bill)
+                () -> assertEquals(1, result.updated()),
+                () -> assertEquals(1, result.notFound()),
+                () -> assertEquals(List.of(
+                        new UpdateBillsStatusResultDTO.Result(BILL_ID, Outcome.UPDATED),
+                        new UpdateBillsStatusResultDTO.Result(missingId, Outcome.NOT_FOUND)
+                ), result.results()),
+                () -> verify(billValidator, times(1)).validateBillsStatusUpdate(updateBillsStatusDTO)
+        );
+    }
+
+    @Test
+    void updateBillsStatus_successWhenUpdatingByFilter_returnsUpdatedIds() {
+        var updateBillsStatusDTO = UpdateBillsStatusDTO.builder()
+                .status(STATUS_PAID)
+                .dueDateFrom(START_DATE)
+                .dueDateTo(END_DATE)
+                .currentStatus(STATUS_PENDING)
+                .build();
+
+        when(bulkRepository.updateStatusWhere(START_DATE, END_DATE, STATUS_PENDING, STATUS_PAID)).thenReturn(List.of(BILL_ID));
+
+        var result = service.updateBillsStatus(updateBillsStatusDTO);
+        assertAll(
+                () -> assertEquals(1, result.updated()),
+                () -> assertEquals(0, result.notFound()),
+                () -> assertEquals(List.of(new UpdateBillsStatusResultDTO.Result(BILL_ID, Outcome.UPDATED)), result.results())
         );
     }
 
     @Test
     void findBills_successWhenGettingBills_returnsBillsPagedResult() {
         var pageable = PageRequest.of(PAGE_NUMBER, PAGE_SIZE);
-        var matcher = mockMatcher();
-        var bill = mockBill();
-        var bills = mockBills(bill);
-        var example = Example.of(bill, matcher);
-        var pageResult = new PageImpl<>(bills, pageable, bills.size());
+        var summaries = List.of(BillSummary.of(mockBill()));
+        var pageResult = new PageImpl<>(summaries, pageable, 21);
+        var filter = new BillFilter(DUE_DATE, null, null, DESCRIPTION, STATUS_PENDING);
+
+        when(repository.findSummaries(filter, pageable)).thenReturn(pageResult);
+
+        var result = service.findBills(filter, PAGE_NUMBER, PAGE_SIZE);
+        assertAll(
+                () -> assertEquals(summaries, result.content()),
+                () -> assertEquals(PAGE_NUMBER, result.pageNumber()),
+                () -> assertEquals(PAGE_SIZE, result.pageSize()),
+                () -> assertEquals(21, result.totalElements()),
+                () -> assertEquals(3, result.totalPages())
+        );
+    }
+
+    @Test
+    void searchBills_successWhenSearchingDescription_limitsResults() {
+        var bills = mockBills(mockBill());
+
+        when(searchIndex.search(DESCRIPTION, 100)).thenReturn(bills);
+
+        var result = service.searchBills(DESCRIPTION, 500);
+        assertEquals(List.of(BillSummary.of(bills.getFirst())), result);
+    }
 
-        when(repository.findAll(example, pageable)).thenReturn(pageResult);
-        
-        var result = service.findBills(DUE_DATE, DESCRIPTION, PAGE_NUMBER, PAGE_SIZE);
+    @Test
+    void searchBills_successWhenDescriptionIsBlank_returnsEmptyList() {
+        var result = service.searchBills(" ", PAGE_SIZE);
         assertAll(
-                () -> assertEquals(pageResult, result),
-                () -> verify(repository, times(1)).findAll(example, pageable)
+                () -> assertTrue(result.isEmpty()),
+                () -> verifyNoInteractions(searchIndex)
         );
     }
 
+    @Test
+    void findBillsAfter_successWhenThereIsNextPage_returnsCursorOfLastBill() {
+        var filter = new BillFilter(DUE_DATE, null, null, DESCRIPTION, null);
+        var first = new BillSummary(BILL_ID, DUE_DATE, PAYMENT_DATE, TEN, DESCRIPTION, STATUS_PAID);
+        var second = new BillSummary(UUID.randomUUID(), DUE_DATE, PAYMENT_DATE, TEN, DESCRIPTION, STATUS_PAID);
+
+        when(repository.findSummariesAfter(filter, null, 2)).thenReturn(List.of(first, second));
+
+        var result = service.findBillsAfter(filter, null, 1);
+        assertAll(
+                () -> assertEquals(List.of(first), result.content()),
+                () -> assertTrue(result.hasNext()),
+                () -> assertEquals(new BillCursor(DUE_DATE, BILL_ID), BillCursor.decode(result.next()))
+        );
+    }
+
+    @Test
+    void findBillsAfter_successWhenLastPage_returnsNoCursor() {
+        var filter = new BillFilter(null, null, null, null, null);
+        var cursor = new BillCursor(DUE_DATE, BILL_ID);
+
+        when(repository.findSummariesAfter(filter, cursor, PAGE_SIZE + 1)).thenReturn(List.of());
+
+        var result = service.findBillsAfter(filter, cursor.encode(), PAGE_SIZE);
+        assertAll(
+                () -> assertFalse(result.hasNext()),
+                () -> assertNull(result.next())
+        );
+    }
+
+    @Test
+    void findBillsAfter_shouldThrowExceptionWhenCursorIsInvalid_throwsInvalidCursorException() {
+        var exception = assertThrows(InvalidCursorException.class, () -> service.findBillsAfter(new BillFilter(null, null, null, null, null), "invalid", PAGE_SIZE));
+        assertEquals("Cursor de paginação inválido.", exception.getMessage());
+    }
+
     @Test
     void findBillById_successWhenFindingBillById_returnsBill() {
-        var bill = mockBillEntity();
+        var bill = new BillDetail(BILL_ID, DUE_DATE, PAYMENT_DATE, TEN, DESCRIPTION, STATUS_PAID, 0L, null, null);
 
-        when(billValidator.checkExistingBill(BILL_ID)).thenReturn(bill);
+        var readFromPrimary = new AtomicBoolean();
+
+        when(billValidator.checkExistingBillDetail(BILL_ID)).thenAnswer(invocation -> {
+            readFromPrimary.set(ReadConsistency.isPrimaryRequired());
+            return bill;
+        });
 
         var result = service.findBillById(BILL_ID);
         assertAll(
                 () -> assertEquals(bill, result),
-                () -> verify(billValidator, times(1)).checkExistingBill(BILL_ID)
+                () -> assertTrue(readFromPrimary.get()),
+                () -> assertFalse(ReadConsistency.isPrimaryRequired()),
+                () -> verify(repository, never()).findById(BILL_ID)
         );
     }
 
@@ -140,29 +331,166 @@ class BillServiceTest {
     void sumBillAmountByPaymentDateBetween_successWhenValidatingDates_returnsSum() {
         var expected = TEN;
 
-        when(repository.sumBillAmountByPaymentDateBetween(START_DATE, END_DATE)).thenReturn(Optional.of(expected));
+        when(dailyTotalService.sumTotalAmountByPaymentDateBetween(START_DATE, END_DATE)).thenReturn(expected);
 
         var result = service.sumBillAmountByPaymentDateBetween(START_DATE, END_DATE);
         assertAll(
                 () -> assertEquals(expected, result),
-                () -> verify(repository, times(1)).sumBillAmountByPaymentDateBetween(START_DATE, END_DATE),
+                () -> verify(dailyTotalService, times(1)).sumTotalAmountByPaymentDateBetween(START_DATE, END_DATE),
                 () -> verify(billValidator, times(1)).validateSearchPeriodForSumOfBills(START_DATE, END_DATE)
         );
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void saveCsvBills_successWhenSavingCsvFile_returnsVoid() {
         var bills = mockBills(mockBillEntity(), mockBillEntity());
 
-        when(csvFileValidator.processCsvBase64(CSV_BASE64)).thenReturn(bills);
+        doAnswer(invocation -> {
+            Consumer<List<Bill>> chunkConsumer = invocation.getArgument(1);
+            chunkConsumer.accept(bills);
+            return null;
+        }).when(csvFileValidator).processCsvBase64(eq(CSV_BASE64), any(Consumer.class));
+        when(bulkRepository.getInsertMode()).thenReturn(BulkInsertMode.BATCH);
+
+        var result = service.saveCsvBills(CSV_BASE64);
+        assertAll(
+                () -> assertEquals(2, result.rows()),
+                () -> assertEquals("BATCH", result.insertMode()),
+                () -> verify(csvFileValidator).processCsvBase64(eq(CSV_BASE64), any(Consumer.class)),
+                () -> verify(transactionTemplate, times(1)).executeWithoutResult(any()),
+                () -> verify(bulkRepository, times(1)).insertAll(bills),
+                () -> verify(dailyTotalService, times(1)).apply(any(BillDailyTotalChanges.class)),
+                () -> verify(dailyTotalService, never()).addBills(any()),
+                () -> verify(metrics, times(1)).csvImportCompleted(eq(2L), anyLong())
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveCsvBills_successWhenSavingCsvStream_savesEachChunk() {
+        var csvFile = new ByteArrayInputStream(new byte[0]);
+        var firstChunk = mockBills(mockBillEntity());
+        var secondChunk = mockBills(mockBillEntity(), mockBillEntity());
+
+        doAnswer(invocation -> {
+            Consumer<List<Bill>> chunkConsumer = invocation.getArgument(1);
+            chunkConsumer.accept(firstChunk);
+            chunkConsumer.accept(secondChunk);
+            return null;
+        }).when(csvFileValidator).processCsvStream(eq(csvFile), any(Consumer.class), eq(CsvImportProgress.NONE));
+        when(bulkRepository.getInsertMode()).thenReturn(BulkInsertMode.COPY);
+
+        var dailyTotals = new ArrayList<BillDailyTotalChanges.Change>();
+        doAnswer(invocation -> {
+            BillDailyTotalChanges changes = invocation.getArgument(0);
+            changes.forEach((paymentDate, change) -> dailyTotals.add(change));
+            return null;
+        }).when(dailyTotalService).apply(any(BillDailyTotalChanges.class));
+
+        var result = service.saveCsvBills(csvFile);
+        assertAll(
+                () -> assertEquals(3, result.rows()),
+                () -> assertEquals("COPY", result.insertMode()),
+                () -> verify(bulkRepository, times(1)).insertAll(firstChunk),
+                () -> verify(bulkRepository, times(1)).insertAll(secondChunk),
+                () -> verify(dailyTotalService, times(1)).apply(any(BillDailyTotalChanges.class)),
+                () -> verify(dailyTotalService, never()).addBills(any()),
+                () -> assertEquals(List.of(new BillDailyTotalChanges.Change(new BigDecimal("30"), 3)), dailyTotals)
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveCsvBills_commitsEachChunk_whenCommitPolicyIsChunk() {
+        ReflectionTestUtils.setField(service, "commitPolicy", CsvCommitPolicy.CHUNK);
+        var csvFile = new ByteArrayInputStream(new byte[0]);
+        var firstChunk = mockBills(mockBillEntity());
+        var secondChunk = mockBills(mockBillEntity(), mockBillEntity());
+
+        doAnswer(invocation -> {
+            Consumer<List<Bill>> chunkConsumer = invocation.getArgument(1);
+            chunkConsumer.accept(firstChunk);
+            chunkConsumer.accept(secondChunk);
+            return null;
+        }).when(csvFileValidator).processCsvStream(eq(csvFile), any(Consumer.class), eq(CsvImportProgress.NONE));
+        when(bulkRepository.getInsertMode()).thenReturn(BulkInsertMode.BATCH);
+
+        var result = service.saveCsvBills(csvFile);
+        assertAll(
+                () -> assertEquals(3, result.rows()),
+                () -> verify(transactionTemplate, times(2)).executeWithoutResult(any()),
+                () -> verify(bulkRepository, times(1)).insertAll(firstChunk),
+                () -> verify(bulkRepository, times(1)).insertAll(secondChunk),
+                () -> verify(dailyTotalService, times(1)).addBills(firstChunk),
+                () -> verify(dailyTotalService, times(1)).addBills(secondChunk),
+                () -> verify(dailyTotalService, never()).apply(any())
+        );
+    }
 
-        service.saveCsvBills(CSV_BASE64);
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveCsvBills_keepsCommittedChunks_whenLaterChunkFailsWithChunkPolicy() {
+        ReflectionTestUtils.setField(service, "commitPolicy", CsvCommitPolicy.CHUNK);
+        var csvFile = new ByteArrayInputStream(new byte[0]);
+        var firstChunk = mockBills(mockBillEntity());
+
+        doAnswer(invocation -> {
+            Consumer<List<Bill>> chunkConsumer = invocation.getArgument(1);
+            chunkConsumer.accept(firstChunk);
+            throw new IllegalArgumentException("A linha 2 coluna dueDate possui formato inválido.");
+        }).when(csvFileValidator).processCsvStream(eq(csvFile), any(Consumer.class), eq(CsvImportProgress.NONE));
+
+        assertThrows(IllegalArgumentException.class, () -> service.saveCsvBills(csvFile));
         assertAll(
-                () -> verify(csvFileValidator).processCsvBase64(CSV_BASE64),
-                () -> verify(repository, times(1)).saveAll(bills)
+                () -> verify(transactionTemplate, times(1)).executeWithoutResult(any()),
+                () -> verify(bulkRepository, times(1)).insertAll(firstChunk),
+                () -> verify(metrics, never()).csvImportCompleted(anyLong(), anyLong())
         );
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveCsvBills_reportsOnlyCommittedRows_whenChunkPolicyImportFails() {
+        ReflectionTestUtils.setField(service, "commitPolicy", CsvCommitPolicy.CHUNK);
+        var csvFile = new ByteArrayInputStream(new byte[0]);
+        var job = new CsvImportJob();
+        var firstChunk = mockBills(mockBillEntity(), mockBillEntity());
+        var secondChunk = mockBills(mockBillEntity());
+
+        doAnswer(invocation -> {
+            Consumer<List<Bill>> chunkConsumer = invocation.getArgument(1);
+            chunkConsumer.accept(firstChunk);
+            chunkConsumer.accept(secondChunk);
+            return null;
+        }).when(csvFileValidator).processCsvStream(eq(csvFile), any(Consumer.class), eq(job));
+        lenient().doThrow(new IllegalStateException("falha no commit")).when(bulkRepository).insertAll(secondChunk);
+
+        assertThrows(IllegalStateException.class, () -> service.saveCsvBills(csvFile, job));
+        job.fail("falha no commit");
+
+        assertEquals(2, job.getRowsPersisted().get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveCsvBills_rollsBackReportedRows_whenAllPolicyImportFails() {
+        var csvFile = new ByteArrayInputStream(new byte[0]);
+        var job = new CsvImportJob();
+        var firstChunk = mockBills(mockBillEntity(), mockBillEntity());
+
+        doAnswer(invocation -> {
+            Consumer<List<Bill>> chunkConsumer = invocation.getArgument(1);
+            chunkConsumer.accept(firstChunk);
+            throw new IllegalArgumentException("A linha 3 coluna dueDate possui formato inválido.");
+        }).when(csvFileValidator).processCsvStream(eq(csvFile), any(Consumer.class), eq(job));
+
+        assertThrows(IllegalArgumentException.class, () -> service.saveCsvBills(csvFile, job));
+        job.fail("A linha 3 coluna dueDate possui formato inválido.");
+
+        assertEquals(0, job.getRowsPersisted().get());
+    }
+
     private Bill mockBillEntity() {
         return Bill.builder()
                 .dueDate(DUE_DATE)
@@ -191,14 +519,6 @@ class BillServiceTest {
                 .build();
     }
 
-    private ExampleMatcher mockMatcher() {
-        return ExampleMatcher
-                .matching()
-                .withIgnoreNullValues()
-                .withIgnoreCase()
-                .withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING);
-    }
-
     private List<Bill> mockBills(Bill... bill) {
         return List.of(bill);
     }
@@ -0,0 +1,158 @@
+package com.project.payment.service;
+
+import com.project.payment.controller.dto.CsvImportResultDTO;
+import com.project.payment.exception.AlreadyRegisteredBillException;
+import com.project.payment.exception.CsvImportJobLimitException;
+import com.project.payment.exception.CsvImportJobNotFoundException;
+import com.project.payment.model.CsvImportJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CsvImportJobServiceTest {
+
+    private static final String CSV_CONTENT = "2025-07-01,2025-07-02,150.00,Conta de energia,PENDENTE\n";
+
+    @Mock
+    private BillService billService;
+
+    private CsvImportJobService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CsvImportJobService(billService, 1, 1, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void submit_shouldCompleteJobAndReportProgress_whenImportSucceeds() throws Exception {
+        when(billService.saveCsvBills(any(InputStream.class), any(CsvImportJob.class))).thenAnswer(invocation -> {
+            CsvImportJob job = invocation.getArgument(1);
+            job.rowsParsed(1);
+            job.rowsValidated(1);
+            job.rowsPersisted(1);
+            return CsvImportResultDTO.of(1, 1, "BATCH");
+        });
+
+        var job = service.submit(csvFile());
+        awaitFinished(job);
+
+        assertAll(
+                () -> assertEquals(CsvImportJob.Status.COMPLETED, job.getStatus()),
+                () -> assertEquals(1, job.getRowsParsed().get()),
+                () -> assertEquals(1, job.getRowsValidated().get()),
+                () -> assertEquals(1, job.getRowsPersisted().get()),
+                () -> assertSame(job, service.findJob(job.getId()))
+        );
+    }
+
+    @Test
+    void submit_shouldFailJobWithMessage_whenImportIsRejected() throws Exception {
+        when(billService.saveCsvBills(any(InputStream.class), any(CsvImportJob.class)))
+                .thenThrow(new AlreadyRegisteredBillException("A linha 1 contém a conta já cadastrada!"));
+
+        var job = service.submit(csvFile());
+        awaitFinished(job);
+
+        assertAll(
+                () -> assertEquals(CsvImportJob.Status.FAILED, job.getStatus()),
+                () -> assertEquals("A linha 1 contém a conta já cadastrada!", job.getError()),
+                () -> assertEquals(0, job.getRowsPersisted().get())
+        );
+    }
+
+    @Test
+    void submit_shouldKeepCommittedRows_whenImportFailsAfterCommittedChunks() throws Exception {
+        when(billService.saveCsvBills(any(InputStream.class), any(CsvImportJob.class))).thenAnswer(invocation -> {
+            CsvImportJob job = invocation.getArgument(1);
+            job.rowsPersisted(1000);
+            throw new IllegalArgumentException("A linha 1001 coluna dueDate possui formato inválido.");
+        });
+
+        var job = service.submit(csvFile());
+        awaitFinished(job);
+
+        assertAll(
+                () -> assertEquals(CsvImportJob.Status.FAILED, job.getStatus()),
+                () -> assertEquals(1000, job.getRowsPersisted().get())
+        );
+    }
+
+    @Test
+    void submit_shouldThrowException_whenPendingJobLimitIsReached() throws Exception {
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return CsvImportResultDTO.of(0, 1, "BATCH");
+        }).when(billService).saveCsvBills(any(InputStream.class), any(CsvImportJob.class));
+
+        var job = service.submit(csvFile());
+
+        assertThrows(CsvImportJobLimitException.class, () -> service.submit(csvFile()));
+        release.countDown();
+        awaitFinished(job);
+    }
+
+    @Test
+    void submit_shouldTakeOverSpooledFile_withoutCopyingIt() throws Exception {
+        var content = new String[1];
+        when(billService.saveCsvBills(any(InputStream.class), any(CsvImportJob.class))).thenAnswer(invocation -> {
+            InputStream csvFile = invocation.getArgument(0);
+            content[0] = new String(csvFile.readAllBytes(), UTF_8);
+            return CsvImportResultDTO.of(1, 1, "BATCH");
+        });
+        var spooledFile = Files.createTempFile("bill-upload-", ".csv");
+        Files.writeString(spooledFile, CSV_CONTENT);
+
+        var job = service.submit(spooledFile);
+        awaitFinished(job);
+
+        assertAll(
+                () -> assertEquals(CsvImportJob.Status.COMPLETED, job.getStatus()),
+                () -> assertEquals(CSV_CONTENT, content[0]),
+                () -> assertFalse(Files.exists(spooledFile))
+        );
+    }
+
+    @Test
+    void findJob_shouldThrowException_whenJobDoesNotExist() {
+        var jobId = UUID.randomUUID();
+
+        var exception = assertThrows(CsvImportJobNotFoundException.class, () -> service.findJob(jobId));
+        assertEquals("Importação não encontrada.", exception.getMessage());
+    }
+
+    private InputStream csvFile() {
+        return new ByteArrayInputStream(CSV_CONTENT.getBytes());
+    }
+
+    private void awaitFinished(CsvImportJob job) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!job.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(job.isFinished());
+    }
+}
@@ -0,0 +1,151 @@
+package com.project.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.payment.controller.dto.ErrorResponseDTO;
+import com.project.payment.exception.IdempotencyKeyInProgressException;
+import com.project.payment.exception.InvalidIdempotencyKeyException;
+import com.project.payment.metrics.PaymentMetrics;
+import com.project.payment.repository.InMemoryIdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String KEY = "7c4a8d09-ca37-4d1b-8a2e-2a1f2f2d7b55";
+    private static final String FINGERPRINT = IdempotencyService.fingerprint("POST /payments", "conta");
+    private static final URI LOCATION = URI.create("http://localhost/payments/1");
+
+    @Mock
+    private PaymentMetrics metrics;
+
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotencyService(new InMemoryIdempotencyStore(100, Duration.ofHours(1)), new ObjectMapper(), metrics);
+    }
+
+    @Test
+    void execute_shouldReplayStoredResponse_whenKeyIsRepeated() throws IOException {
+        var executions = new AtomicInteger();
+
+        var first = service.execute(KEY, FINGERPRINT, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.created(LOCATION).body(Map.of("bills", 2));
+        });
+        var replay = service.execute(KEY, FINGERPRINT, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        });
+
+        assertAll(
+                () -> assertEquals(1, executions.get()),
+                () -> assertEquals(HttpStatus.CREATED, first.getStatusCode()),
+                () -> assertEquals(HttpStatus.CREATED, replay.getStatusCode()),
+                () -> assertEquals(LOCATION, replay.getHeaders().getLocation()),
+                () -> assertEquals("{\"bills\":2}", replay.getBody()),
+                () -> assertEquals("true", replay.getHeaders().getFirst(IdempotencyService.IDEMPOTENT_REPLAYED_HEADER)),
+                () -> verify(metrics).idempotentReplay()
+        );
+    }
+
+    @Test
+    void execute_shouldRunActionAgain_whenFirstResponseFailed() throws IOException {
+        var executions = new AtomicInteger();
+        var errorResponse = ErrorResponseDTO.conflit("Conta já cadastrada");
+
+        service.execute(KEY, FINGERPRINT, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(errorResponse.status()).body(errorResponse);
+        });
+        var retry = service.execute(KEY, FINGERPRINT, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.created(LOCATION).build();
+        });
+
+        assertAll(
+                () -> assertEquals(2, executions.get()),
+                () -> assertEquals(HttpStatus.CREATED, retry.getStatusCode())
+        );
+    }
+
+    @Test
+    void execute_shouldReleaseKey_whenActionThrows() throws IOException {
+        assertThrows(IllegalStateException.class, () -> service.execute(KEY, FINGERPRINT, () -> {
+            throw new IllegalStateException("falha");
+        }));
+
+        var retry = service.execute(KEY, FINGERPRINT, () -> ResponseEntity.created(LOCATION).build());
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+    }
+
+    @Test
+    void execute_shouldRejectKey_whenReusedWithDifferentRequest() throws IOException {
+        service.execute(KEY, FINGERPRINT, () -> ResponseEntity.created(LOCATION).build());
+
+        var otherFingerprint = IdempotencyService.fingerprint("POST /payments", "outra conta");
+        assertThrows(InvalidIdempotencyKeyException.class, () -> service.execute(KEY, otherFingerprint, () -> ResponseEntity.created(LOCATION).build()));
+    }
+
+    @Test
+    void execute_shouldRejectKey_whenFirstRequestIsInProgress() throws IOException {
+        var nested = new IdempotencyKeyInProgressException[1];
+
+        service.execute(KEY, FINGERPRINT, () -> {
+            nested[0] = assertThrows(IdempotencyKeyInProgressException.class, () -> service.execute(KEY, FINGERPRINT, () -> ResponseEntity.ok().build()));
+            return ResponseEntity.created(LOCATION).build();
+        });
+
+        assertNotNull(nested[0]);
+    }
+
+    @Test
+    void execute_shouldAlwaysRunAction_whenKeyIsMissing() throws IOException {
+        var executions = new AtomicInteger();
+
+        service.execute(null, FINGERPRINT, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.created(LOCATION).build();
+        });
+        service.execute(" ", FINGERPRINT, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.created(LOCATION).build();
+        });
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void fingerprint_shouldDependOnContent_andMatchWhileCopying() throws IOException {
+        var content = "2025-07-01,2025-07-02,150.00,Conta de energia,PENDENTE\n".getBytes(UTF_8);
+        var copy = new ByteArrayOutputStream();
+
+        var fingerprint = IdempotencyService.fingerprint(new ByteArrayInputStream(content), "POST /payments/uploads", "text/csv");
+        var copiedFingerprint = IdempotencyService.copyAndFingerprint(new ByteArrayInputStream(content), copy, "POST /payments/uploads", "text/csv");
+        var otherFingerprint = IdempotencyService.fingerprint(new ByteArrayInputStream("outro".getBytes(UTF_8)), "POST /payments/uploads", "text/csv");
+
+        assertAll(
+                () -> assertEquals(fingerprint, copiedFingerprint),
+                () -> assertArrayEquals(content, copy.toByteArray()),
+                () -> assertNotEquals(fingerprint, otherFingerprint)
+        );
+    }
+}
@@ -1,9 +1,15 @@
 package com.project.payment.validator;
 
+import com.project.payment.controller.dto.UpdateBillsStatusDTO;
 import com.project.payment.exception.AlreadyRegisteredBillException;
 import com.project.payment.exception.BillNotFoundException;
+import com.project.payment.exception.BillVersionMismatchException;
 import com.project.payment.exception.InvalidPeriodException;
+import com.project.payment.exception.InvalidStatusUpdateException;
+import com.project.payment.metrics.PaymentMetrics;
 import com.project.payment.model.Bill;
+import com.project.payment.model.BillKey;
+import com.project.payment.model.BillStatus;
 import com.project.payment.repository.BillRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,23 +19,32 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
 
 @ExtendWith(MockitoExtension.class)
 class BillValidatorTest {
 
     private static final LocalDate DUE_DATE = LocalDate.of(2025, 7, 1);
     private static final BigDecimal AMOUNT = new BigDecimal("100.00");
-    private static final String STATUS_PAID = "PAGO";
+    private static final BillStatus STATUS_PAID = BillStatus.PAGO;
     private static final UUID BILL_ID = UUID.randomUUID();
 
     @Mock
     private BillRepository repository;
 
+    @Mock
+    private PaymentMetrics metrics;
+
     @InjectMocks
     private BillValidator validator;
 
@@ -41,9 +56,12 @@ class BillValidatorTest {
                 .thenReturn(Optional.of(bill));
 
         var exception = assertThrows(AlreadyRegisteredBillException.class, () -> validator.checkBillAlreadyRegistered(bill));
-        assertEquals(
-                "A conta com a data de vencimento 2025-07-01, valor 100.00 e status 'PAGO' já foi cadastrada!",
-                exception.getMessage()
+        assertAll(
+                () -> assertEquals(
+                        "A conta com a data de vencimento 2025-07-01, valor 100.00 e status 'PAGO' já foi cadastrada!",
+                        exception.getMessage()
+                ),
+                () -> verify(metrics).billConflict()
         );
     }
 
@@ -57,6 +75,57 @@ class BillValidatorTest {
         assertDoesNotThrow(() -> validator.checkBillAlreadyRegistered(bill));
     }
 
+    @Test
+    void checkBillAlreadyRegistered_shouldIgnoreTheBillItself_whenBillIsAlreadyPersisted() {
+        var bill = mockBill();
+        bill.setId(BILL_ID);
+
+        when(repository.existsByDueDateAndAmountAndStatusAndIdNot(DUE_DATE, AMOUNT, STATUS_PAID, BILL_ID)).thenReturn(false);
+
+        assertDoesNotThrow(() -> validator.checkBillAlreadyRegistered(bill));
+        verify(repository, never()).findByDueDateAndAmountAndStatus(any(), any(), any());
+    }
+
+    @Test
+    void checkBillAlreadyRegistered_shouldThrowException_whenAnotherBillHasTheSameKey() {
+        var bill = mockBill();
+        bill.setId(BILL_ID);
+
+        when(repository.existsByDueDateAndAmountAndStatusAndIdNot(DUE_DATE, AMOUNT, STATUS_PAID, BILL_ID)).thenReturn(true);
+
+        assertThrows(AlreadyRegisteredBillException.class, () -> validator.checkBillAlreadyRegistered(bill));
+        verify(metrics).billConflict();
+    }
+
+    @Test
+    void checkBillsAlreadyRegistered_shouldThrowExceptionWithLineNumberWhenAnyBillExists_throwsAlreadyRegisteredBillException() {
+        var otherBill = Bill.builder()
+                .dueDate(DUE_DATE)
+                .amount(new BigDecimal("50.00"))
+                .status(STATUS_PAID)
+                .build();
+        var bill = Bill.builder()
+                .dueDate(DUE_DATE)
+                .amount(new BigDecimal("100"))
+                .status(STATUS_PAID)
+                .build();
+
+        when(repository.findBillKeys(Set.of(BillKey.of(otherBill), BillKey.of(bill))))
+                .thenReturn(List.of(new BillKey(DUE_DATE, AMOUNT, STATUS_PAID)));
+
+        var exception = assertThrows(AlreadyRegisteredBillException.class, () -> validator.checkBillsAlreadyRegistered(Map.of(3, otherBill, 7, bill)));
+        assertEquals(
+                "A linha 7 contém a conta com a data de vencimento 2025-07-01, valor 100.00 e status 'PAGO' que já foi cadastrada!",
+                exception.getMessage()
+        );
+    }
+
+    @Test
+    void checkBillsAlreadyRegistered_shouldSkipQueryWhenThereAreNoBills_returnsVoid() {
+        assertDoesNotThrow(() -> validator.checkBillsAlreadyRegistered(Map.of()));
+        verify(repository, never()).findBillKeys(any());
+    }
+
     @Test
     void checkExistingBill_shouldReturnBillWhenExists() {
         var bill = mockBill();
@@ -75,7 +144,49 @@ class BillValidatorTest {
         when(repository.findById(BILL_ID)).thenReturn(Optional.empty());
 
         var exception = assertThrows(BillNotFoundException.class, () -> validator.checkExistingBill(BILL_ID));
-        assertEquals("Conta não encontrada.", exception.getMessage());
+        assertAll(
+                () -> assertEquals("Conta não encontrada.", exception.getMessage()),
+                () -> verify(metrics).billNotFound()
+        );
+    }
+
+    @Test
+    void checkBillVersion_shouldThrowExceptionWhenVersionDiffers_throwsBillVersionMismatchException() {
+        var bill = mockBill();
+        bill.setVersion(2L);
+
+        assertAll(
+                () -> assertThrows(BillVersionMismatchException.class, () -> validator.checkBillVersion(bill, 1L)),
+                () -> assertDoesNotThrow(() -> validator.checkBillVersion(bill, 2L)),
+                () -> assertDoesNotThrow(() -> validator.checkBillVersion(bill, null))
+        );
+    }
+
+    @Test
+    void checkBillUpdated_shouldThrowExceptionWhenBillNotFound_throwsBillNotFoundException() {
+        when(repository.existsById(BILL_ID)).thenReturn(false);
+
+        assertAll(
+                () -> assertThrows(BillNotFoundException.class, () -> validator.checkBillUpdated(0, BILL_ID)),
+                () -> verify(metrics).billNotFound()
+        );
+    }
+
+    @Test
+    void checkBillUpdated_shouldThrowExceptionWhenBillExists_throwsBillVersionMismatchException() {
+        when(repository.existsById(BILL_ID)).thenReturn(true);
+
+        assertAll(
+                () -> assertThrows(BillVersionMismatchException.class, () -> validator.checkBillUpdated(0, BILL_ID)),
+                () -> verify(metrics).billConflict()
+        );
+    }
+
+    @Test
+    void checkBillUpdated_shouldSkipQueryWhenRowWasUpdated_returnsVoid() {
+        validator.checkBillUpdated(1, BILL_ID);
+
+        verify(repository, never()).existsById(any());
     }
 
     @Test
@@ -95,6 +206,35 @@ class BillValidatorTest {
         assertDoesNotThrow(() -> validator.validateSearchPeriodForSumOfBills(startDate, endDate));
     }
 
+    @Test
+    void validateBillsStatusUpdate_shouldThrowExceptionWhenIdsAndFilterAreMissing_throwsInvalidStatusUpdateException() {
+        var updateBillsStatusDTO = UpdateBillsStatusDTO.builder().status(STATUS_PAID).build();
+
+        assertThrows(InvalidStatusUpdateException.class, () -> validator.validateBillsStatusUpdate(updateBillsStatusDTO));
+    }
+
+    @Test
+    void validateBillsStatusUpdate_shouldThrowExceptionWhenIdsAndFilterAreInformed_throwsInvalidStatusUpdateException() {
+        var updateBillsStatusDTO = UpdateBillsStatusDTO.builder()
+                .status(STATUS_PAID)
+                .ids(List.of(UUID.randomUUID()))
+                .currentStatus(BillStatus.PENDENTE)
+                .build();
+
+        assertThrows(InvalidStatusUpdateException.class, () -> validator.validateBillsStatusUpdate(updateBillsStatusDTO));
+    }
+
+    @Test
+    void validateBillsStatusUpdate_shouldThrowExceptionWhenDueDateRangeIsInverted_throwsInvalidPeriodException() {
+        var updateBillsStatusDTO = UpdateBillsStatusDTO.builder()
+                .status(STATUS_PAID)
+                .dueDateFrom(LocalDate.of(2025, 7, 10))
+                .dueDateTo(LocalDate.of(2025, 7, 1))
+                .build();
+
+        assertThrows(InvalidPeriodException.class, () -> validator.validateBillsStatusUpdate(updateBillsStatusDTO));
+    }
+
     private Bill mockBill() {
         return Bill.builder()
                 .dueDate(DUE_DATE)
@@ -0,0 +1,63 @@
+package com.project.payment.validator;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvChunkReaderTest {
+
+    @Test
+    void next_shouldSplitOnRecordBoundaries_andTrackFirstLineNumber() throws IOException {
+        var reader = new CsvChunkReader(new StringReader("a,1\nb,2\nc,3\n"), 2, 4);
+
+        var first = reader.next();
+        var second = reader.next();
+
+        assertAll(
+                () -> assertEquals("a,1\nb,2\n", new String(first.data())),
+                () -> assertEquals(1, first.firstLineNumber()),
+                () -> assertEquals("c,3\n", new String(second.data())),
+                () -> assertEquals(3, second.firstLineNumber()),
+                () -> assertNull(reader.next())
+        );
+    }
+
+    @Test
+    void next_shouldNotSplitInsideQuotedFields() throws IOException {
+        var reader = new CsvChunkReader(new StringReader("a,\"x\n\"\"y,\nz\"\nb,ab\"c\nd\n"), 1);
+
+        var first = reader.next();
+        var second = reader.next();
+        var third = reader.next();
+
+        assertAll(
+                () -> assertEquals("a,\"x\n\"\"y,\nz\"\n", new String(first.data())),
+                () -> assertEquals("b,ab\"c\n", new String(second.data())),
+                () -> assertEquals(4, second.firstLineNumber()),
+                () -> assertEquals("d\n", new String(third.data())),
+                () -> assertEquals(5, third.firstLineNumber()),
+                () -> assertNull(reader.next())
+        );
+    }
+
+    @Test
+    void next_shouldKeepCrLfTogether_andReturnLastRecordWithoutLineBreak() throws IOException {
+        var reader = new CsvChunkReader(new StringReader("a\r\nb\r\nc"), 1);
+
+        var first = reader.next();
+        var second = reader.next();
+        var third = reader.next();
+
+        assertAll(
+                () -> assertEquals("a\r", new String(first.data())),
+                () -> assertEquals("b\r", new String(second.data())),
+                () -> assertEquals(2, second.firstLineNumber()),
+                () -> assertEquals("c", new String(third.data())),
+                () -> assertEquals(3, third.firstLineNumber()),
+                () -> assertNull(reader.next())
+        );
+    }
+}
@@ -1,17 +1,28 @@
 package com.project.payment.validator;
 
 import com.project.payment.exception.AlreadyRegisteredBillException;
+import com.project.payment.metrics.PaymentMetrics;
+import com.project.payment.metrics.PaymentMetrics.CsvStage;
 import com.project.payment.model.Bill;
+import com.project.payment.model.BillKey;
+import com.project.payment.model.BillStatus;
+import com.project.payment.model.CsvImportProgress;
+import com.project.payment.repository.CsvImportKeyRepository;
+import com.project.payment.repository.CsvImportKeyRepository.RepeatedLine;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -23,12 +34,12 @@ class CsvFileValidatorTest {
     private static final LocalDate PAYMENT_DATE_1 = LocalDate.of(2025, 7, 2);
     private static final BigDecimal AMOUNT_1 = new BigDecimal("150.00");
     private static final String DESCRIPTION_1 = "Conta de energia";
-    private static final String STATUS_1 = "PENDENTE";
+    private static final BillStatus STATUS_1 = BillStatus.PENDENTE;
     private static final LocalDate DUE_DATE_2 = LocalDate.of(2025, 7, 5);
     private static final LocalDate PAYMENT_DATE_2 = LocalDate.of(2025, 7, 6);
     private static final BigDecimal AMOUNT_2 = new BigDecimal("220.75");
     private static final String DESCRIPTION_2 = "Conta de água";
-    private static final String STATUS_2 = "PAGO";
+    private static final BillStatus STATUS_2 = BillStatus.PAGO;
     private static final String MESSAGE_ERROR = "A conta com a data de vencimento %s, valor %.2f e status '%s' já foi cadastrada!";
 
     private static final String CSV_VALID_FILE_CONTENT = """
@@ -42,6 +53,12 @@ class CsvFileValidatorTest {
             2025-07-05,2025-07-06,220.75,Conta de água,PAGO
             """;
 
+    private static final String CSV_REPEATED_LINE = """
+            2025-07-01,2025-07-02,150.00,Conta de energia,PENDENTE
+            2025-07-05,2025-07-06,220.75,Conta de água,PAGO
+            2025-07-01,2025-07-03,150.0,Outra conta,PENDENTE
+            """;
+
     private static final String CSV_INVALID_DUE_DATE = """
             INVALID,2025-07-02,150.00,Conta de energia,PENDENTE
             """;
@@ -61,9 +78,29 @@ class CsvFileValidatorTest {
     @Mock
     private BillValidator billValidator;
 
-    @InjectMocks
+    @Mock
+    private CsvImportKeyRepository importKeyRepository;
+
+    @Mock
+    private PaymentMetrics metrics;
+
     private CsvFileValidator validator;
 
+    @BeforeEach
+    void setUp() {
+        var registeredKeys = new HashMap<BillKey, Integer>();
+        lenient().when(importKeyRepository.registerKeys(any(), anyMap())).thenAnswer(invocation -> {
+            Map<Integer, Bill> billsByLine = invocation.getArgument(1);
+            var repeated = billsByLine.entrySet().stream()
+                    .filter(entry -> registeredKeys.containsKey(BillKey.of(entry.getValue())))
+                    .findFirst()
+                    .map(entry -> new RepeatedLine(entry.getKey(), registeredKeys.get(BillKey.of(entry.getValue()))));
+            billsByLine.forEach((line, bill) -> registeredKeys.putIfAbsent(BillKey.of(bill), line));
+            return repeated;
+        });
+        validator = new CsvFileValidator(billValidator, importKeyRepository, metrics, 1000, 1);
+    }
+
     @Test
     void processCsvBase64_shouldReturnValidBillList_whenValidBase64IsPassed() {
         var base64CsvFile = convertBase64(CSV_VALID_FILE_CONTENT);
@@ -73,7 +110,7 @@ class CsvFileValidatorTest {
         assertAll(
                 () -> assertEquals(expected.size(), result.size()),
                 () -> assertEquals(expected, result),
-                () -> verify(billValidator, times(2)).checkBillAlreadyRegistered(any(Bill.class))
+                () -> verify(billValidator, times(1)).checkBillsAlreadyRegistered(anyMap())
         );
     }
 
@@ -84,7 +121,7 @@ class CsvFileValidatorTest {
         var result = validator.processCsvBase64(base64CsvFile);
         assertAll(
                 () -> assertEquals(2, result.size()),
-                () -> verify(billValidator, times(2)).checkBillAlreadyRegistered(any(Bill.class))
+                () -> verify(billValidator, times(1)).checkBillsAlreadyRegistered(anyMap())
         );
     }
 
@@ -93,11 +130,25 @@ class CsvFileValidatorTest {
         var base64CsvFile = convertBase64(CSV_VALID_FILE_CONTENT);
 
         doThrow(new AlreadyRegisteredBillException(MESSAGE_ERROR))
-                .when(billValidator).checkBillAlreadyRegistered(any(Bill.class));
+                .when(billValidator).checkBillsAlreadyRegistered(anyMap());
 
         assertThrows(AlreadyRegisteredBillException.class, () -> validator.processCsvBase64(base64CsvFile));
     }
 
+    @Test
+    void processCsvBase64_shouldThrowExceptionWhenLineIsRepeatedInFile_throwsAlreadyRegisteredBillException() {
+        var base64CsvFile = convertBase64(CSV_REPEATED_LINE);
+
+        var exception = assertThrows(AlreadyRegisteredBillException.class, () -> validator.processCsvBase64(base64CsvFile));
+        assertAll(
+                () -> assertEquals("A linha 3 repete a conta com a data de vencimento 2025-07-01, valor 150.00 e status 'PENDENTE' da linha 1.", exception.getMessage()),
+                () -> verify(billValidator, times(1)).checkBillsAlreadyRegistered(Map.of(
+                        1, expectedBillsFromCsv().get(0),
+                        2, expectedBillsFromCsv().get(1)
+                ))
+        );
+    }
+
     @Test
     void processCsvBase64_shouldThrowException_whenDueDateIsInvalid() {
         var base64 = convertBase64(CSV_INVALID_DUE_DATE);
@@ -134,6 +185,118 @@ class CsvFileValidatorTest {
         assertEquals("A linha 1 coluna Status possui valor inválido: INVALID", exception.getMessage());
     }
 
+    @Test
+    void processCsvStream_shouldDeliverBillsInChunks_whenFileIsLargerThanChunkSize() {
+        validator = new CsvFileValidator(billValidator, importKeyRepository, metrics, 1, 1);
+        var csvFile = new ByteArrayInputStream(CSV_VALID_FILE_CONTENT.getBytes());
+        var chunks = new ArrayList<List<Bill>>();
+
+        validator.processCsvStream(csvFile, chunks::add, CsvImportProgress.NONE);
+        var expected = expectedBillsFromCsv();
+
+        assertAll(
+                () -> assertEquals(2, chunks.size()),
+                () -> assertEquals(List.of(expected.get(0)), chunks.get(0)),
+                () -> assertEquals(List.of(expected.get(1)), chunks.get(1)),
+                () -> verify(metrics, times(3)).recordCsvStage(eq(CsvStage.SPLIT), anyLong())
+        );
+    }
+
+    @Test
+    void processCsvStream_shouldKeepLineNumbers_whenFileUsesCrLf() {
+        var csvFile = new ByteArrayInputStream(("2025-07-01,2025-07-02,150.00,Conta de energia,PENDENTE\r\n" +
+                "2025-07-05,2025-07-06,INVALID,Conta de água,PAGO\r\n").getBytes());
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> validator.processCsvStream(csvFile, bills -> {
+        }, CsvImportProgress.NONE));
+
+        assertEquals("A linha 2 coluna Total possui formato inválido.", exception.getMessage());
+    }
+
+    @Test
+    void processCsvStream_shouldReadQuotedDescription_whenItContainsCommasAndLineBreaks() {
+        var csvFile = new ByteArrayInputStream(("2025-07-01,2025-07-02,150.00,\"Conta de energia, \"\"julho\"\"\nbloco B\",PENDENTE\n" +
+                "2025-07-05,2025-07-06,INVALID,Conta de água,PAGO\n").getBytes());
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> validator.processCsvStream(csvFile, bills -> {
+        }, CsvImportProgress.NONE));
+
+        assertAll(
+                () -> assertEquals("A linha 3 coluna Total possui formato inválido.", exception.getMessage()),
+                () -> verify(billValidator).checkBillsAlreadyRegistered(Map.of(1, Bill.builder()
+                        .dueDate(DUE_DATE_1)
+                        .paymentDate(PAYMENT_DATE_1)
+                        .amount(AMOUNT_1)
+                        .description("Conta de energia, \"julho\"\nbloco B")
+                        .status(STATUS_1)
+                        .build()))
+        );
+    }
+
+    @Test
+    void processCsvStream_shouldKeepFileOrder_whenChunksAreParsedInParallel() {
+        validator = new CsvFileValidator(billValidator, importKeyRepository, metrics, 2, 4);
+        var csv = new StringBuilder();
+        var expected = new ArrayList<Bill>();
+        for (int day = 1; day <= 25; day++) {
+            var dueDate = LocalDate.of(2025, 7, day);
+            csv.append(dueDate).append(",2025-08-01,").append(day).append(".50,Conta ").append(day).append(",PAGO\n");
+            expected.add(Bill.builder()
+                    .dueDate(dueDate)
+                    .paymentDate(LocalDate.of(2025, 8, 1))
+                    .amount(new BigDecimal(day + ".50"))
+                    .description("Conta " + day)
+                    .status(BillStatus.PAGO)
+                    .build());
+        }
+        var chunks = new ArrayList<List<Bill>>();
+
+        validator.processCsvStream(new ByteArrayInputStream(csv.toString().getBytes()), chunks::add, CsvImportProgress.NONE);
+        validator.shutdown();
+
+        assertAll(
+                () -> assertEquals(13, chunks.size()),
+                () -> assertEquals(expected, chunks.stream().flatMap(List::stream).toList())
+        );
+    }
+
+    @Test
+    void processCsvStream_shouldReportFirstInvalidLine_whenChunksAreParsedInParallel() {
+        validator = new CsvFileValidator(billValidator, importKeyRepository, metrics, 1, 4);
+        var csvFile = new ByteArrayInputStream(("2025-07-01,2025-07-02,150.00,Conta de energia,PENDENTE\n" +
+                "2025-07-05,2025-07-06,220.75,Conta de água,PAGO\n" +
+                "2025-07-01,2025-07-03,150.0,Outra conta,PENDENTE\n" +
+                "2025-07-08,2025-07-09,INVALID,Conta de gás,PAGO\n").getBytes());
+
+        var exception = assertThrows(AlreadyRegisteredBillException.class, () -> validator.processCsvStream(csvFile, bills -> {
+        }, CsvImportProgress.NONE));
+        validator.shutdown();
+
+        assertEquals("A linha 3 repete a conta com a data de vencimento 2025-07-01, valor 150.00 e status 'PENDENTE' da linha 1.", exception.getMessage());
+    }
+
+    @Test
+    void processCsvStream_shouldCheckLinesBeforeRepeatedOne_whenRepetitionComesFromPreviousChunk() {
+        validator = new CsvFileValidator(billValidator, importKeyRepository, metrics, 2, 1);
+        var csvFile = new ByteArrayInputStream(CSV_REPEATED_LINE.replace("2025-07-01,2025-07-03,150.0,Outra conta,PENDENTE\n",
+                "2025-07-09,2025-07-10,10.00,Conta de gás,PAGO\n2025-07-01,2025-07-03,150.0,Outra conta,PENDENTE\n").getBytes());
+
+        var exception = assertThrows(AlreadyRegisteredBillException.class, () -> validator.processCsvStream(csvFile, bills -> {
+        }, CsvImportProgress.NONE));
+
+        assertAll(
+                () -> assertEquals("A linha 4 repete a conta com a data de vencimento 2025-07-01, valor 150.00 e status 'PENDENTE' da linha 1.", exception.getMessage()),
+                () -> verify(billValidator).checkBillsAlreadyRegistered(Map.of(3, Bill.builder()
+                        .dueDate(LocalDate.of(2025, 7, 9))
+                        .paymentDate(LocalDate.of(2025, 7, 10))
+                        .amount(new BigDecimal("10.00"))
+                        .description("Conta de gás")
+                        .status(BillStatus.PAGO)
+                        .build())),
+                () -> verify(importKeyRepository).deleteKeys(any())
+        );
+    }
+
     private String convertBase64(String file) {
         return Base64.getEncoder().encodeToString(file.getBytes());
     }
@@ -0,0 +1,141 @@
+package com.project.payment.validator;
+
+import com.project.payment.model.BillStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRecordParserTest {
+
+    @Test
+    void nextRecord_shouldParseAllColumns_whenLineIsValid() throws IOException {
+        var parser = parser(" 2025-07-01 , 2025-07-02 , 150.00 , Conta de energia , pendente \n");
+
+        assertTrue(parser.nextRecord());
+        assertAll(
+                () -> assertEquals(1, parser.lineNumber()),
+                () -> assertEquals(5, parser.fieldCount()),
+                () -> assertEquals(LocalDate.of(2025, 7, 1), parser.date(0)),
+                () -> assertEquals(LocalDate.of(2025, 7, 2), parser.date(1)),
+                () -> assertEquals(new BigDecimal("150.00"), parser.decimal(2)),
+                () -> assertEquals("Conta de energia", parser.text(3)),
+                () -> assertEquals(BillStatus.PENDENTE, parser.status(4)),
+                () -> assertFalse(parser.nextRecord())
+        );
+    }
+
+    @Test
+    void nextRecord_shouldUnescapeQuotedFields_andCountPhysicalLines() throws IOException {
+        var parser = parser("a,\"x, \"\"y\"\"\r\nz\",c\r\nd,e\n");
+
+        assertTrue(parser.nextRecord());
+        assertAll(
+                () -> assertEquals(1, parser.lineNumber()),
+                () -> assertEquals(3, parser.fieldCount()),
+                () -> assertEquals("x, \"y\"\r\nz", parser.text(1)),
+                () -> assertEquals("c", parser.text(2))
+        );
+        assertTrue(parser.nextRecord());
+        assertAll(
+                () -> assertEquals(3, parser.lineNumber()),
+                () -> assertEquals("d", parser.text(0)),
+                () -> assertFalse(parser.nextRecord())
+        );
+    }
+
+    @Test
+    void nextRecord_shouldKeepRecordsIntact_whenTheyCrossBufferBoundaries() throws IOException {
+        var parser = new CsvRecordParser(new StringReader("""
+                2025-07-01,2025-07-02,150.00,"Conta, de energia",PAGO
+                2025-07-05,2025-07-06,220.75,Conta de água,ATRASADO
+                """), 8);
+
+        assertTrue(parser.nextRecord());
+        assertEquals("Conta, de energia", parser.text(3));
+        assertTrue(parser.nextRecord());
+        assertAll(
+                () -> assertEquals(2, parser.lineNumber()),
+                () -> assertEquals(LocalDate.of(2025, 7, 5), parser.date(0)),
+                () -> assertEquals(new BigDecimal("220.75"), parser.decimal(2)),
+                () -> assertEquals("Conta de água", parser.text(3)),
+                () -> assertEquals(BillStatus.ATRASADO, parser.status(4)),
+                () -> assertFalse(parser.nextRecord())
+        );
+    }
+
+    @Test
+    void fieldCount_shouldIgnoreTrailingEmptyColumns_likeStringSplit() throws IOException {
+        var parser = parser("a,b,,d,,\n\n");
+
+        assertTrue(parser.nextRecord());
+        assertEquals(4, parser.fieldCount());
+        assertTrue(parser.nextRecord());
+        assertAll(
+                () -> assertEquals(2, parser.lineNumber()),
+                () -> assertEquals(0, parser.fieldCount())
+        );
+    }
+
+    @Test
+    void date_shouldReturnNull_whenValueIsNotAnIsoDate() throws IOException {
+        var parser = parser("2025-02-30,2025-7-01,INVALID,+12025-07-01\n");
+
+        assertTrue(parser.nextRecord());
+        assertAll(
+                () -> assertNull(parser.date(0)),
+                () -> assertNull(parser.date(1)),
+                () -> assertNull(parser.date(2)),
+                () -> assertEquals(LocalDate.of(12025, 7, 1), parser.date(3))
+        );
+    }
+
+    @Test
+    void decimal_shouldMatchBigDecimalParsing() throws IOException {
+        var parser = parser("-12.5,+7,1e3,1234567890123456789.01,12a\n");
+
+        assertTrue(parser.nextRecord());
+        assertAll(
+                () -> assertEquals(new BigDecimal("-12.5"), parser.decimal(0)),
+                () -> assertEquals(new BigDecimal("7"), parser.decimal(1)),
+                () -> assertEquals(new BigDecimal("1e3"), parser.decimal(2)),
+                () -> assertEquals(new BigDecimal("1234567890123456789.01"), parser.decimal(3)),
+                () -> assertNull(parser.decimal(4))
+        );
+    }
+
+    @Test
+    void status_shouldReturnNull_whenStatusIsUnknown() throws IOException {
+        var parser = parser("Pago,PAGOS\n");
+
+        assertTrue(parser.nextRecord());
+        assertAll(
+                () -> assertEquals(BillStatus.PAGO, parser.status(0)),
+                () -> assertNull(parser.status(1))
+        );
+    }
+
+    @Test
+    void date_shouldReuseInstance_whenDateRepeats() throws IOException {
+        var parser = parser("2025-07-01,2025-07-01\n2025-07-01,2025-02-30\n");
+
+        assertTrue(parser.nextRecord());
+        var first = parser.date(0);
+        var second = parser.date(1);
+        assertTrue(parser.nextRecord());
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertSame(first, parser.date(0)),
+                () -> assertNull(parser.date(1))
+        );
+    }
+
+    private CsvRecordParser parser(String csv) {
+        return new CsvRecordParser(new StringReader(csv));
+    }
+}